@@ -0,0 +1,64 @@
+package hello.spring_item_service.domain.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// ItemRepository 단일 스레드 처리량 | 동시 처리량은 ItemRepositoryConcurrentBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class ItemRepositoryBenchmark {
+
+    @Param({"HEAP", "COLUMNAR"})
+    public ItemStorage storage;
+
+    @Param({"100000"})
+    public int size;
+
+    private ItemRepository itemRepository;
+
+    // save 가 계속 쌓이지 않도록 iteration 마다 새 저장소를 만듦.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        itemRepository = new ItemRepository(storage);
+        for (int i = 0; i < size; i++) {
+            itemRepository.save(new Item("item" + i, 1_000 + i, i % 9_999));
+        }
+    }
+
+    @Benchmark
+    public ItemValue save() {
+        return itemRepository.save(new Item("itemA", 10_000, 10));
+    }
+
+    @Benchmark
+    public ItemValue findById() {
+        return itemRepository.findById(randomId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<ItemValue> findAll() {
+        return itemRepository.findAll();
+    }
+
+    @Benchmark
+    public ItemPage findPage() {
+        return itemRepository.findPage(randomId(), 20);
+    }
+
+    @Benchmark
+    public Long update() {
+        Long itemId = randomId();
+        itemRepository.update(itemId, new Item("itemB", 20_000, 20));
+        return itemId;
+    }
+
+    private Long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, size + 1);
+    }
+}
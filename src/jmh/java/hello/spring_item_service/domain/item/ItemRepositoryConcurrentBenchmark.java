@@ -0,0 +1,8 @@
+package hello.spring_item_service.domain.item;
+
+import org.openjdk.jmh.annotations.Threads;
+
+// ItemRepositoryBenchmark 와 같은 측정을 가용 코어 수만큼의 스레드로 실행함.
+@Threads(Threads.MAX)
+public class ItemRepositoryConcurrentBenchmark extends ItemRepositoryBenchmark {
+}
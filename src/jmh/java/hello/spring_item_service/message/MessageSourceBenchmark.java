@@ -0,0 +1,61 @@
+package hello.spring_item_service.message;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 검증 오류 1건의 코드 생성 + 메시지 조회 비용 | ResourceBundleMessageSource vs CachingMessageSource
+// found : errors.properties 에 있는 코드 (range.item.price), missing : 모든 코드가 없어 기본 메시지를 사용 (NotNull)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageSourceBenchmark {
+
+    @Param({"found", "missing"})
+    public String code;
+
+    private final MessageCodesResolver defaultCodesResolver = new DefaultMessageCodesResolver();
+    private final MessageCodesResolver cachingCodesResolver = new CachingMessageCodesResolver(10_000);
+    private ResourceBundleMessageSource messageSource;
+    private CachingMessageSource cachingMessageSource;
+
+    private String errorCode;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        messageSource = configure(new ResourceBundleMessageSource());
+        cachingMessageSource = configure(new CachingMessageSource(10_000));
+        boolean found = code.equals("found");
+        errorCode = found ? "range" : "NotNull";
+        args = found ? new Object[]{1_000, 1_000_000}
+                : new Object[]{new DefaultMessageSourceResolvable(new String[]{"item.price", "price"}, "price")};
+    }
+
+    @Benchmark
+    public String resourceBundleMessageSource() {
+        return messageSource.getMessage(fieldError(defaultCodesResolver), Locale.KOREA);
+    }
+
+    @Benchmark
+    public String cachingMessageSource() {
+        return cachingMessageSource.getMessage(fieldError(cachingCodesResolver), Locale.KOREA);
+    }
+
+    private FieldError fieldError(MessageCodesResolver codesResolver) {
+        return new FieldError("item", "price", 10, false,
+                codesResolver.resolveMessageCodes(errorCode, "item", "price", Integer.class), args, "must not be null");
+    }
+
+    private static <T extends ResourceBundleMessageSource> T configure(T messageSource) {
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
@@ -0,0 +1,33 @@
+package hello.spring_item_service.validation;
+
+import hello.spring_item_service.message.CachingMessageCodesResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.concurrent.TimeUnit;
+
+// 검증 오류 1건당 만들어지는 메시지 코드 생성 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageCodesResolverBenchmark {
+
+    private final MessageCodesResolver codesResolver = new DefaultMessageCodesResolver();
+    private final MessageCodesResolver cachingCodesResolver = new CachingMessageCodesResolver(10_000);
+
+    @Benchmark
+    public String[] objectError() {
+        return codesResolver.resolveMessageCodes("totalPriceMin", "item");
+    }
+
+    @Benchmark
+    public String[] fieldError() {
+        return codesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+    }
+
+    @Benchmark
+    public String[] cachedFieldError() {
+        return cachingCodesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+    }
+}
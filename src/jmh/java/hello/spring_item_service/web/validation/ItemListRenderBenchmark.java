@@ -0,0 +1,73 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.domain.item.ItemPage;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// validation/v4/items 템플릿 렌더링 비용 | 목록 크기별
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemListRenderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication application;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+
+        application = JakartaServletWebApplication.buildApplication(new MockServletContext());
+
+        List<ItemValue> items = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            items.add(new ItemValue(id, "item" + id, 10_000, 10, 1L, 0L));
+        }
+        // ThymeleafView 가 요청마다 넣어주는 SpEL 평가 컨텍스트 | 없으면 표현식마다 새로 만듦.
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        variables = Map.of("items", items, "page", new ItemPage(items, size, (long) size),
+                ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+    }
+
+    @Benchmark
+    public String render() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/validation/v4/items");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebContext context = new WebContext(application.buildExchange(request, response), Locale.KOREAN, variables);
+        return templateEngine.process("validation/v4/items", context);
+    }
+}
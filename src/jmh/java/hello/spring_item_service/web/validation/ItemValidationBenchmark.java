@@ -0,0 +1,78 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.web.validation.compiled.CompiledFormValidator;
+import hello.spring_item_service.web.validation.form.ItemSaveForm;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+// 직접 작성한 ItemValidator vs Bean Validation(Hibernate Validator) vs CompiledFormValidator | 같은 입력값으로 비교함.
+// beanValidation 은 이전 검증 경로 (Bean Validation + 컨트롤러의 totalPriceMin) 와 같게 복합 룰을 함께 검사함.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private final ItemValidator itemValidator = new ItemValidator();
+    private ValidatorFactory validatorFactory;
+    private SpringValidatorAdapter beanValidator;
+    private CompiledFormValidator compiledValidator;
+
+    private Item item;
+    private ItemSaveForm form;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+        compiledValidator = new CompiledFormValidator(validatorFactory);
+
+        boolean valid = input.equals("valid");
+        item = new Item(valid ? "itemA" : " ", valid ? 10_000 : 100, valid ? 10 : 10_000);
+        form = new ItemSaveForm();
+        form.setItemName(item.getItemName());
+        form.setPrice(item.getPrice());
+        form.setQuantity(item.getQuantity());
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors itemValidator() {
+        Errors errors = new BeanPropertyBindingResult(item, "item");
+        itemValidator.validate(item, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors beanValidation() {
+        Errors errors = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, errors);
+        if (form.getPrice() != null && form.getQuantity() != null) {
+            long resultPrice = (long) form.getPrice() * form.getQuantity();
+            if (resultPrice < 10000) {
+                errors.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
+            }
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public Errors compiledValidator() {
+        Errors errors = new BeanPropertyBindingResult(form, "item");
+        compiledValidator.validate(form, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,46 @@
+package hello.spring_item_service.domain.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.function.LongFunction;
+
+/**
+ * Caffeine 기반 ItemCache. | 크기 제한 (W-TinyLFU) + 저장 후 TTL.
+ * 조회는 같은 id 에 대해 한 번만 loader 를 실행하고, invalidate 는 진행 중인 조회가 끝날 때까지 기다림.
+ */
+class CaffeineItemCache implements ItemCache {
+
+    private final Cache<Long, ItemValue> cache;
+
+    CaffeineItemCache(ItemCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public ItemValue get(long id, LongFunction<ItemValue> loader) {
+        return cache.get(id, key -> loader.apply(key));
+    }
+
+    @Override
+    public void invalidate(long id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public ItemCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ItemCacheStats(true, cache.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+}
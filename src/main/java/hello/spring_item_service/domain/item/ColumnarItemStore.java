@@ -0,0 +1,341 @@
+package hello.spring_item_service.domain.item;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 카탈로그용 저장 방식.
+ * Long 키, Map.Entry, Item, Integer 객체를 만들지 않고 id 를 그대로 배열 위치로 사용해
+ * price / quantity 는 int 배열, version / lastModified 는 long 배열, itemName 은 UTF-8 byte 배열로 컬럼 단위 보관함.
+ * Item 객체는 조회할 때만 만들어짐.
+ *
+ * ID 는 ItemRepository 가 1 부터 순차 발급하므로 빈 칸이 거의 없음.
+ * 파티션 사용 시 id 는 sequence * stride (파티션 수) + 파티션 이므로, id 대신 sequence (id / stride) 를 배열 위치 (key) 로 쓰고
+ * 파티션 번호는 offsets 컬럼에 둠. | id 를 그대로 쓰면 배열이 파티션 수만큼 듬성듬성해짐.
+ * key 가 같은 다른 id 는 ItemRepository 가 만들지 않으므로 들어오면 오류로 처리함.
+ * 컬럼은 CHUNK_SIZE 행 단위 chunk 로 나누어 필요할 때만 할당하고,
+ * chunk 마다 StampedLock 을 두어 조회는 낙관적 읽기로 처리함.
+ *
+ * 순서 조회 (streamFrom) 는 저장된 가장 큰 key 에서 멈추고, chunk 마다 둔 사용 중인 행 bitmap 으로
+ * 빈 chunk / 빈 행을 건너뛰므로 배열 크기가 아니라 읽은 Item 수에 비례하는 비용만 듦.
+ */
+class ColumnarItemStore implements ItemStore {
+
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // 행 상태 flag | Integer / String / Long 의 null 을 표현하기 위해 사용.
+    private static final byte PRESENT = 1;
+    private static final byte NULL_NAME = 1 << 1;
+    private static final byte NULL_PRICE = 1 << 2;
+    private static final byte NULL_QUANTITY = 1 << 3;
+    private static final byte NULL_VERSION = 1 << 4;
+    private static final byte NULL_LAST_MODIFIED = 1 << 5;
+
+    // 파티션 수 | 파티션 미사용이면 1 이고 key = id
+    private final int stride;
+    private final ReentrantLock growLock = new ReentrantLock();
+    private final AtomicLong size = new AtomicLong();
+    // 저장된 가장 큰 key | streamFrom 이 여기서 멈춤.
+    private final AtomicLong maxKey = new AtomicLong();
+    private volatile Chunk[] chunks = new Chunk[16];
+
+    ColumnarItemStore() {
+        this(1);
+    }
+
+    ColumnarItemStore(int stride) {
+        this.stride = stride;
+    }
+
+    @Override
+    public void put(ItemValue item) {
+        long id = item.getId();
+        long key = key(id);
+        Chunk chunk = chunkForWrite(key, id);
+        int row = (int) (key & CHUNK_MASK);
+
+        long stamp = chunk.lock.writeLock();
+        try {
+            if (!chunk.isPresent(row)) {
+                size.incrementAndGet();
+            } else if (chunk.idOf(key, row) != id) {
+                throw new IllegalStateException("같은 sequence 의 다른 파티션 id 가 이미 저장되어 있음. id="
+                        + id + " stored=" + chunk.idOf(key, row));
+            }
+            chunk.write(row, item);
+            maxKey.accumulateAndGet(key, Math::max);
+        } finally {
+            chunk.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public ItemValue get(long id) {
+        long key = key(id);
+        Chunk chunk = chunkForRead(key);
+        if (chunk == null) {
+            return null;
+        }
+        int row = (int) (key & CHUNK_MASK);
+
+        long stamp = chunk.lock.tryOptimisticRead();
+        ItemValue item = chunk.read(id, row);
+        if (chunk.lock.validate(stamp)) {
+            return item;
+        }
+
+        // 읽는 도중 쓰기가 있었던 경우 | 읽기 락으로 다시 읽음.
+        stamp = chunk.lock.readLock();
+        try {
+            return chunk.read(id, row);
+        } finally {
+            chunk.lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public ItemValue update(long id, UnaryOperator<ItemValue> updater) {
+        long key = key(id);
+        Chunk chunk = chunkForRead(key);
+        if (chunk == null) {
+            return null;
+        }
+        int row = (int) (key & CHUNK_MASK);
+
+        long stamp = chunk.lock.writeLock();
+        try {
+            ItemValue item = chunk.read(id, row);
+            if (item == null) {
+                return null;
+            }
+            ItemValue updatedItem = updater.apply(item);
+            chunk.write(row, updatedItem);
+            return updatedItem;
+        } finally {
+            chunk.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<ItemValue> values() {
+        List<ItemValue> items = new ArrayList<>();
+        Chunk[] cs = chunks;
+        for (int index = 0; index < cs.length; index++) {
+            Chunk chunk = cs[index];
+            if (chunk == null) {
+                continue;
+            }
+            long baseKey = (long) index << CHUNK_SHIFT;
+            long stamp = chunk.lock.readLock();
+            try {
+                for (int row = 0; row < CHUNK_SIZE; row++) {
+                    ItemValue item = chunk.read(chunk.idOf(baseKey | row, row), row);
+                    if (item != null) {
+                        items.add(item);
+                    }
+                }
+            } finally {
+                chunk.lock.unlockRead(stamp);
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public Stream<ItemValue> streamFrom(long afterId) {
+        long fromId = Math.max(afterId + 1, 1);
+        long from = key(fromId);
+        long last = maxKey.get();
+        if (from > last) {
+            return Stream.empty();
+        }
+        // key 는 id 순서와 같고, 첫 key 에는 fromId 보다 작은 id 가 있을 수 있음.
+        return LongStream.rangeClosed(from >>> CHUNK_SHIFT, last >>> CHUNK_SHIFT)
+                .mapToObj(index -> streamChunk(index, from, last))
+                .flatMap(Function.identity())
+                .filter(item -> item.getId() >= fromId);
+    }
+
+    // index 번째 chunk 에서 key 가 from ~ last 범위인 Item | 빈 chunk 는 바로 건너뛰고, 행은 bitmap 에서 사용 중인 것만 읽음.
+    private Stream<ItemValue> streamChunk(long index, long from, long last) {
+        long baseKey = index << CHUNK_SHIFT;
+        Chunk chunk = chunkForRead(baseKey);
+        if (chunk == null || chunk.count == 0) {
+            return Stream.empty();
+        }
+        int firstRow = (int) (Math.max(from, baseKey) - baseKey);
+        int lastRow = (int) (Math.min(last, baseKey | CHUNK_MASK) - baseKey);
+        return IntStream.iterate(chunk.nextPresent(firstRow), row -> row >= 0 && row <= lastRow, row -> chunk.nextPresent(row + 1))
+                .mapToObj(row -> get(chunk.idOf(baseKey | row, row)))
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        growLock.lock();
+        try {
+            chunks = new Chunk[16];
+            size.set(0);
+            maxKey.set(0);
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    // id 의 배열 위치 | 음수 id 는 음수 key 가 되어 chunkForRead / chunkForWrite 가 거절함.
+    private long key(long id) {
+        return stride == 1 ? id : Math.floorDiv(id, stride);
+    }
+
+    private Chunk chunkForRead(long key) {
+        if (key < 0) {
+            return null;
+        }
+        long index = key >>> CHUNK_SHIFT;
+        Chunk[] cs = chunks;
+        return index < cs.length ? cs[(int) index] : null;
+    }
+
+    private Chunk chunkForWrite(long key, long id) {
+        Chunk chunk = chunkForRead(key);
+        if (chunk != null) {
+            return chunk;
+        }
+        if (key < 0 || (key >>> CHUNK_SHIFT) >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("지원하지 않는 item id 입니다. id=" + id);
+        }
+
+        int index = (int) (key >>> CHUNK_SHIFT);
+        growLock.lock();
+        try {
+            Chunk[] cs = chunks;
+            if (index >= cs.length) {
+                cs = Arrays.copyOf(cs, Math.max(cs.length * 2, index + 1));
+            }
+            if (cs[index] == null) {
+                cs[index] = new Chunk(stride);
+            }
+            // 배열 원소 변경도 조회 스레드에 보이도록 volatile 필드에 다시 기록함.
+            chunks = cs;
+            return cs[index];
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    private static final class Chunk {
+        final int stride;
+        final StampedLock lock = new StampedLock();
+        final byte[] flags = new byte[CHUNK_SIZE];
+        final int[] prices = new int[CHUNK_SIZE];
+        final int[] quantities = new int[CHUNK_SIZE];
+        final long[] versions = new long[CHUNK_SIZE];
+        final long[] lastModified = new long[CHUNK_SIZE];
+        final byte[][] names = new byte[CHUNK_SIZE][];
+        // 사용 중인 행 bitmap / 행 수 | 쓰기 락 안에서만 바뀌고, streamFrom 은 락 없이 읽은 뒤 get 으로 다시 확인함.
+        final long[] present = new long[CHUNK_SIZE >>> 6];
+        // 행의 파티션 번호 (id % stride) | 파티션 미사용이면 null
+        final int[] offsets;
+        volatile int count;
+
+        Chunk(int stride) {
+            this.stride = stride;
+            this.offsets = stride == 1 ? null : new int[CHUNK_SIZE];
+        }
+
+        boolean isPresent(int row) {
+            return (flags[row] & PRESENT) != 0;
+        }
+
+        // key 위치 행에 저장된 id
+        long idOf(long key, int row) {
+            return offsets == null ? key : key * stride + offsets[row];
+        }
+
+        // row 부터 처음 사용 중인 행, 없으면 -1
+        int nextPresent(int row) {
+            int word = row >>> 6;
+            if (word >= present.length) {
+                return -1;
+            }
+            long bits = present[word] & (-1L << row);
+            while (bits == 0) {
+                if (++word == present.length) {
+                    return -1;
+                }
+                bits = present[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        ItemValue read(long id, int row) {
+            byte flag = flags[row];
+            if ((flag & PRESENT) == 0 || (offsets != null && offsets[row] != Math.floorMod(id, stride))) {
+                return null;
+            }
+            byte[] name = names[row];
+            return new ItemValue(id,
+                    (flag & NULL_NAME) != 0 || name == null ? null : new String(name, StandardCharsets.UTF_8),
+                    (flag & NULL_PRICE) != 0 ? null : prices[row],
+                    (flag & NULL_QUANTITY) != 0 ? null : quantities[row],
+                    (flag & NULL_VERSION) != 0 ? null : versions[row],
+                    (flag & NULL_LAST_MODIFIED) != 0 ? null : lastModified[row]);
+        }
+
+        void write(int row, ItemValue item) {
+            if (!isPresent(row)) {
+                present[row >>> 6] |= 1L << row;
+                count++;
+            }
+            if (offsets != null) {
+                offsets[row] = (int) Math.floorMod(item.getId(), stride);
+            }
+            byte flag = PRESENT;
+            if (item.getItemName() == null) {
+                flag |= NULL_NAME;
+                names[row] = null;
+            } else {
+                names[row] = item.getItemName().getBytes(StandardCharsets.UTF_8);
+            }
+            if (item.getPrice() == null) {
+                flag |= NULL_PRICE;
+            } else {
+                prices[row] = item.getPrice();
+            }
+            if (item.getQuantity() == null) {
+                flag |= NULL_QUANTITY;
+            } else {
+                quantities[row] = item.getQuantity();
+            }
+            if (item.getVersion() == null) {
+                flag |= NULL_VERSION;
+            } else {
+                versions[row] = item.getVersion();
+            }
+            if (item.getLastModified() == null) {
+                flag |= NULL_LAST_MODIFIED;
+            } else {
+                lastModified[row] = item.getLastModified();
+            }
+            flags[row] = flag;
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.domain.item.ItemPersistenceProperties.SyncPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 파일 기반 ItemJournal. | append-only 로그 + 주기적 스냅샷.
+ *
+ * 파일 구성
+ * - journal-{segment}.log : 레코드 = [길이 int][CRC32 int][Item 값]
+ *   Item 값 = [id long][flags byte][price int][quantity int][name 길이 int][name UTF-8][version long?][lastModified long?]
+ * - snapshot-{segment}.dat : 해당 segment 이전까지의 모든 Item 값 (MappedItemSnapshot 형식).
+ *   segment 번호 이상의 로그만 다시 적용하면 됨.
+ *
+ * 쓰기는 요청 스레드에서 직렬화만 하고 큐에 넣으며, 파일 기록과 fsync 는 flusher 스레드 하나가 묶어서 처리함.
+ * 스냅샷은 새 로그 segment 로 넘어간 뒤 별도 스레드에서 저장소를 순회해 만들고,
+ * 완료되면 이전 로그와 스냅샷을 삭제함.
+ * 레코드는 Item 전체 값이므로 스냅샷 도중의 변경이 섞여도 이후 로그를 다시 적용하면 같은 상태가 됨.
+ *
+ * 파일 기록 / fsync 가 한 번이라도 실패하면 이후 기록을 받지 않음. | 찢어진 레코드 뒤에 이어 쓰면 복구 시 그 뒤가 모두 버려짐.
+ * 복구 시 손상된 레코드는 마지막 segment 의 끝부분일 때만 잘라내고, 그 외 위치이면 기동을 중단함.
+ */
+@Slf4j
+final class FileItemJournal implements ItemJournal {
+
+    private static final String LOG_PREFIX = "journal-";
+    private static final String LOG_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private static final int FRAME_HEADER = Integer.BYTES * 2;
+    private static final int MAX_RECORD = 1 << 20;
+    private static final int MAX_BATCH = 1_024;
+
+    private static final byte NULL_NAME = 1;
+    private static final byte NULL_PRICE = 1 << 1;
+    private static final byte NULL_QUANTITY = 1 << 2;
+    // 이전 형식 레코드에는 없는 값 | flag 가 있을 때만 name 뒤에 long 으로 기록됨.
+    private static final byte HAS_VERSION = 1 << 3;
+    private static final byte HAS_LAST_MODIFIED = 1 << 4;
+
+    private final Path dir;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalNanos;
+    private final long snapshotEvery;
+    private final Supplier<Stream<ItemValue>> items;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean snapshotInProgress = new AtomicBoolean();
+    private final ExecutorService snapshotExecutor;
+    private final Thread flusher;
+    private volatile boolean closed;
+    // 처음 실패한 기록의 원인 | 이후 append 는 모두 실패함.
+    private volatile Throwable failure;
+
+    // flusher 스레드에서만 사용
+    private FileChannel channel;
+    private long segment;
+    private long recordsSinceSnapshot;
+    private long lastSyncNanos = System.nanoTime();
+    private boolean unsynced;
+
+    private record Entry(byte[] data, int records, CompletableFuture<Void> done) {
+    }
+
+    private static final Entry SHUTDOWN = new Entry(new byte[0], 0, null);
+
+    private FileItemJournal(ItemPersistenceProperties properties, Supplier<Stream<ItemValue>> items, long segment) throws IOException {
+        this.dir = properties.getDir();
+        this.syncPolicy = properties.getSync();
+        this.syncIntervalNanos = properties.getSyncInterval().toNanos();
+        this.snapshotEvery = properties.getSnapshotEvery();
+        this.items = items;
+        this.segment = segment;
+        this.channel = openSegment(segment);
+
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "item-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher = new Thread(this::flushLoop, "item-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 최신 스냅샷을 map 하여 attach 로 넘기고, 이후 로그를 restore 로 다시 적용한 뒤 기록을 시작함.
+     * 스냅샷 내용은 읽지 않으므로 기동 시간은 스냅샷 크기가 아닌 로그 길이에만 비례함.
+     * 마지막 로그의 끝부분이 잘렸거나 손상된 경우 정상 레코드까지만 적용하고 파일을 그 위치로 자름.
+     * 이전 segment 가 손상된 경우 그 뒤의 기록을 적용하면 중간 변경이 빠진 상태가 되므로 IOException 을 던짐.
+     */
+    static FileItemJournal open(ItemPersistenceProperties properties, Consumer<MappedItemSnapshot> attach,
+                                Consumer<ItemValue> restore, Supplier<Stream<ItemValue>> items) throws IOException {
+        Path dir = properties.getDir();
+        Files.createDirectories(dir);
+        deleteFiles(dir, path -> path.getFileName().toString().endsWith(TMP_SUFFIX));
+
+        long snapshotSegment = latestSegment(dir, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        int snapshotItems = 0;
+        if (snapshotSegment > 0) {
+            MappedItemSnapshot snapshot = MappedItemSnapshot.open(dir.resolve(SNAPSHOT_PREFIX + snapshotSegment + SNAPSHOT_SUFFIX));
+            snapshotItems = snapshot.count();
+            attach.accept(snapshot);
+        }
+
+        int restored = 0;
+
+        long lastSegment = snapshotSegment;
+        List<Long> logSegments = segments(dir, LOG_PREFIX, LOG_SUFFIX);
+        for (long logSegment : logSegments) {
+            if (logSegment >= snapshotSegment) {
+                boolean tail = logSegment == logSegments.getLast();
+                restored += replayLog(dir.resolve(LOG_PREFIX + logSegment + LOG_SUFFIX), restore, tail);
+                lastSegment = Math.max(lastSegment, logSegment);
+            }
+        }
+
+        log.info("item journal recovered. dir={} snapshot={} snapshotItems={} segment={} records={}",
+                dir, snapshotSegment, snapshotItems, lastSegment, restored);
+        return new FileItemJournal(properties, items, Math.max(lastSegment, 1));
+    }
+
+    @Override
+    public CompletableFuture<Void> append(List<ItemValue> items) {
+        if (closed) {
+            throw new IllegalStateException("item journal is closed");
+        }
+        Throwable failed = failure;
+        if (failed != null) {
+            throw new IllegalStateException("item journal write failed; no further records are accepted. dir=" + dir, failed);
+        }
+        byte[] data = encode(items);
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            queue.add(new Entry(data, items.size(), done));
+            return done;
+        }
+        queue.add(new Entry(data, items.size(), null));
+        return COMPLETED;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(SHUTDOWN);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        List<Entry> batch = new ArrayList<>();
+        long pollNanos = syncPolicy == SyncPolicy.INTERVAL ? syncIntervalNanos : TimeUnit.SECONDS.toNanos(1);
+        boolean running = true;
+        while (running) {
+            try {
+                Entry first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH);
+                }
+                running = !batch.remove(SHUTDOWN);
+
+                // 실패 이후 | append 전에 큐에 들어와 있던 기록도 쓰지 않고 실패로 완료함.
+                if (failure != null) {
+                    complete(batch, failure);
+                    batch.clear();
+                    continue;
+                }
+                write(batch);
+                if (unsynced && (syncPolicy == SyncPolicy.ALWAYS || !running
+                        || (syncPolicy == SyncPolicy.INTERVAL && System.nanoTime() - lastSyncNanos >= syncIntervalNanos))) {
+                    sync();
+                }
+                complete(batch, null);
+                maybeSnapshot();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (IOException | RuntimeException e) {
+                // 일부만 기록되었을 수 있으므로 이어 쓰지 않음. | sync=interval / os 는 기다리는 요청이 없으므로 이후 append 로 알림.
+                failure = e;
+                log.error("item journal write failed. no further records are accepted. segment={}", segment, e);
+                complete(batch, e);
+            }
+            batch.clear();
+        }
+
+        // close 직전에 들어온 기록 | 대기 중인 요청이 멈추지 않도록 실패로 완료함.
+        queue.drainTo(batch);
+        complete(batch, new IllegalStateException("item journal is closed"));
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("item journal close failed. segment={}", segment, e);
+        }
+    }
+
+    private void write(List<Entry> batch) throws IOException {
+        for (Entry entry : batch) {
+            ByteBuffer buffer = ByteBuffer.wrap(entry.data());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            recordsSinceSnapshot += entry.records();
+            unsynced = true;
+        }
+    }
+
+    private void sync() throws IOException {
+        if (syncPolicy != SyncPolicy.OS) {
+            channel.force(false);
+        }
+        lastSyncNanos = System.nanoTime();
+        unsynced = false;
+    }
+
+    private static void complete(List<Entry> batch, Throwable failure) {
+        for (Entry entry : batch) {
+            if (entry.done() == null) {
+                continue;
+            }
+            if (failure == null) {
+                entry.done().complete(null);
+            } else {
+                entry.done().completeExceptionally(failure);
+            }
+        }
+    }
+
+    // 스냅샷 시점에 새 segment 로 넘어가므로 스냅샷에 빠진 변경은 모두 새 segment 에 남아 있음.
+    private void maybeSnapshot() throws IOException {
+        if (recordsSinceSnapshot < snapshotEvery || !snapshotInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        sync();
+        channel.close();
+        segment++;
+        channel = openSegment(segment);
+        recordsSinceSnapshot = 0;
+
+        long snapshotSegment = segment;
+        snapshotExecutor.execute(() -> {
+            try {
+                writeSnapshot(snapshotSegment);
+            } catch (IOException | RuntimeException e) {
+                log.error("item snapshot failed. segment={}", snapshotSegment, e);
+            } finally {
+                snapshotInProgress.set(false);
+            }
+        });
+    }
+
+    private void writeSnapshot(long snapshotSegment) throws IOException {
+        Path target = dir.resolve(SNAPSHOT_PREFIX + snapshotSegment + SNAPSHOT_SUFFIX);
+        Path tmp = dir.resolve(target.getFileName() + TMP_SUFFIX);
+
+        int count;
+        try (Stream<ItemValue> snapshot = items.get()) {
+            count = MappedItemSnapshot.write(tmp, snapshot);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        // 새 스냅샷 이전의 로그와 스냅샷은 더 이상 필요 없음.
+        deleteFiles(dir, path -> isBefore(path, LOG_PREFIX, LOG_SUFFIX, snapshotSegment)
+                || isBefore(path, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX, snapshotSegment));
+        log.info("item snapshot written. segment={} items={}", snapshotSegment, count);
+    }
+
+    private FileChannel openSegment(long logSegment) throws IOException {
+        return FileChannel.open(dir.resolve(LOG_PREFIX + logSegment + LOG_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // ==레코드 형식==
+
+    static byte[] encode(List<ItemValue> items) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(items.size() * 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        CRC32 crc = new CRC32();
+        try {
+            for (ItemValue item : items) {
+                byte[] payload = encodeItem(item);
+                crc.reset();
+                crc.update(payload);
+                out.writeInt(payload.length);
+                out.writeInt((int) crc.getValue());
+                out.write(payload);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeItem(ItemValue item) throws IOException {
+        byte[] name = item.getItemName() == null ? new byte[0] : item.getItemName().getBytes(StandardCharsets.UTF_8);
+        int optional = (item.getVersion() == null ? 0 : Long.BYTES) + (item.getLastModified() == null ? 0 : Long.BYTES);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 1 + Integer.BYTES * 3 + name.length + optional);
+        byte flags = 0;
+        if (item.getItemName() == null) {
+            flags |= NULL_NAME;
+        }
+        if (item.getPrice() == null) {
+            flags |= NULL_PRICE;
+        }
+        if (item.getQuantity() == null) {
+            flags |= NULL_QUANTITY;
+        }
+        if (item.getVersion() != null) {
+            flags |= HAS_VERSION;
+        }
+        if (item.getLastModified() != null) {
+            flags |= HAS_LAST_MODIFIED;
+        }
+        buffer.putLong(item.getId())
+                .put(flags)
+                .putInt(item.getPrice() == null ? 0 : item.getPrice())
+                .putInt(item.getQuantity() == null ? 0 : item.getQuantity())
+                .putInt(name.length)
+                .put(name);
+        if (item.getVersion() != null) {
+            buffer.putLong(item.getVersion());
+        }
+        if (item.getLastModified() != null) {
+            buffer.putLong(item.getLastModified());
+        }
+        return buffer.array();
+    }
+
+    private static ItemValue decodeItem(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        byte flags = buffer.get();
+        int price = buffer.getInt();
+        int quantity = buffer.getInt();
+        byte[] name = new byte[buffer.getInt()];
+        buffer.get(name);
+
+        Long version = (flags & HAS_VERSION) != 0 ? buffer.getLong() : null;
+        Long lastModified = (flags & HAS_LAST_MODIFIED) != 0 ? buffer.getLong() : null;
+        return new ItemValue(id,
+                (flags & NULL_NAME) != 0 ? null : new String(name, StandardCharsets.UTF_8),
+                (flags & NULL_PRICE) != 0 ? null : price,
+                (flags & NULL_QUANTITY) != 0 ? null : quantity,
+                version, lastModified);
+    }
+
+    // ==복구==
+
+    private record Frame(ItemValue item, int bytes) {
+    }
+
+    // tail 이 아닌 segment 의 손상은 잘라내지 않고 IOException 으로 알림.
+    private static int replayLog(Path path, Consumer<ItemValue> restore, boolean tail) throws IOException {
+        int count = 0;
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long position = 0;
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file), 1 << 16));
+            Frame frame;
+            while ((frame = readFrame(in, size - position)) != null) {
+                restore.accept(frame.item());
+                position += frame.bytes();
+                count++;
+            }
+
+            if (position < size && !tail) {
+                throw new IOException("item journal corrupted before the last segment. file=" + path
+                        + " validBytes=" + position + " size=" + size);
+            }
+            // 마지막 쓰기 도중 장애 | 정상 레코드 이후를 잘라내고 이어서 기록함.
+            if (position < size) {
+                log.warn("item journal tail truncated. file={} validBytes={} size={}", path, position, size);
+                file.truncate(position);
+                file.force(true);
+            }
+        }
+        return count;
+    }
+
+    // 다음 레코드를 읽음. | 남은 바이트가 부족하거나, 길이가 비정상이거나, CRC 가 맞지 않으면 null.
+    private static Frame readFrame(DataInputStream in, long remaining) throws IOException {
+        if (remaining < FRAME_HEADER) {
+            return null;
+        }
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length <= 0 || length > MAX_RECORD || remaining - FRAME_HEADER < length) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        return new Frame(decodeItem(ByteBuffer.wrap(payload)), FRAME_HEADER + length);
+    }
+
+    // ==파일 목록==
+
+    private static List<Long> segments(Path dir, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> segmentOf(path, prefix, suffix))
+                    .filter(segment -> segment > 0)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long latestSegment(Path dir, String prefix, String suffix) throws IOException {
+        List<Long> segments = segments(dir, prefix, suffix);
+        return segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+    }
+
+    private static boolean isBefore(Path path, String prefix, String suffix, long segment) {
+        long fileSegment = segmentOf(path, prefix, suffix);
+        return fileSegment > 0 && fileSegment < segment;
+    }
+
+    // 파일 이름의 segment 번호 | 형식이 다르면 0.
+    private static long segmentOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteFiles(Path dir, Predicate<Path> filter) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : (Iterable<Path>) files.filter(filter)::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+// 기본 저장 방식 | 변경 불가능한 ItemValue 를 복사 없이 그대로 Map 에 보관함.
+// REFACTOR : id 순서 조회(keyset 페이지)를 위해 ConcurrentSkipListMap 사용.
+// ConcurrentSkipListMap 의 computeIfPresent 는 updater 를 여러 번 호출할 수 있으므로 updater 는 부작용이 없어야 함.
+class HeapItemStore implements ItemStore {
+
+    private final ConcurrentNavigableMap<Long, ItemValue> store = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void put(ItemValue item) {
+        store.put(item.getId(), item);
+    }
+
+    @Override
+    public ItemValue get(long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public ItemValue update(long id, UnaryOperator<ItemValue> updater) {
+        return store.computeIfPresent(id, (key, item) -> updater.apply(item));
+    }
+
+    @Override
+    public List<ItemValue> values() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public Stream<ItemValue> streamFrom(long afterId) {
+        return store.tailMap(afterId, false).values().stream();
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+}
@@ -32,6 +32,10 @@ public class Item {
 //    @Max(value = 9999, groups = SaveCheck.class)
     private Integer quantity;
 
+    // 저장 / 수정 시 ItemRepository 가 설정함. | version 은 1 부터 수정마다 1 증가, lastModified 는 epoch millis
+    private Long version;
+
+    private Long lastModified;
 
     public Item() {
     }
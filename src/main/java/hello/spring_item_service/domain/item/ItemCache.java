@@ -0,0 +1,50 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.function.LongFunction;
+
+/**
+ * ItemRepository.findById 앞단의 read-through 캐시.
+ * 수정 후에는 ItemRepository 가 id lock 안에서 invalidate 하므로, update 가 반환된 뒤 이전 값을 돌려주지 않음.
+ */
+interface ItemCache {
+
+    // 캐시 미사용 | 항상 loader 로 조회함.
+    ItemCache NONE = new ItemCache() {
+        @Override
+        public ItemValue get(long id, LongFunction<ItemValue> loader) {
+            return loader.apply(id);
+        }
+
+        @Override
+        public void invalidate(long id) {
+        }
+
+        @Override
+        public void invalidateAll() {
+        }
+
+        @Override
+        public ItemCacheStats stats() {
+            return ItemCacheStats.DISABLED;
+        }
+    };
+
+    static ItemCache create(ItemCacheProperties properties) {
+        return properties.isEnabled() ? new CaffeineItemCache(properties) : NONE;
+    }
+
+    /**
+     * 캐시된 Item, 없으면 loader 로 조회해 캐시함. | loader 가 null 을 반환하면 캐시하지 않음.
+     */
+    ItemValue get(long id, LongFunction<ItemValue> loader);
+
+    /**
+     * id 의 캐시를 제거함.
+     * 같은 id 를 loader 로 조회 중이면 조회가 끝난 뒤 제거하므로, 수정 전에 읽은 값이 남지 않음.
+     */
+    void invalidate(long id);
+
+    void invalidateAll();
+
+    ItemCacheStats stats();
+}
@@ -0,0 +1,23 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ItemRepository.findById 캐시 설정. | item.cache.*
+ * enabled=false 이면 캐시 없이 저장소에서 바로 조회함.
+ */
+@Data
+@ConfigurationProperties("item.cache")
+public class ItemCacheProperties {
+
+    private boolean enabled = false;
+
+    // 최대 보관 Item 수 | 넘으면 W-TinyLFU 정책으로 자주 쓰이지 않는 Item 부터 제거함.
+    private long maximumSize = 10_000;
+
+    // 저장 후 이 시간이 지나면 제거함.
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,9 @@
+package hello.spring_item_service.domain.item;
+
+/**
+ * ItemCache 통계. | 애플리케이션 시작 이후 누적 값.
+ */
+public record ItemCacheStats(boolean enabled, long size, long hitCount, long missCount, long evictionCount, double hitRate) {
+
+    static final ItemCacheStats DISABLED = new ItemCacheStats(false, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,12 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+
+/**
+ * leader 변경 로그의 한 항목. | save / saveAll / update / updateAll 한 번의 결과
+ * @param sequence  1 부터 변경마다 1 증가하는 번호
+ * @param timestamp 기록 시각 (epoch millis)
+ * @param items     변경 후의 Item 값
+ */
+public record ItemChange(long sequence, long timestamp, List<ItemValue> items) {
+}
@@ -0,0 +1,30 @@
+package hello.spring_item_service.domain.item;
+
+/**
+ * 변경 알림 한 건. | /api/items/changes (SSE)
+ * @param sequence  1 부터 변경마다 1 증가하는 번호 | epoch 가 바뀌면 다시 1 부터 시작함.
+ * @param type      등록 / 수정
+ * @param timestamp 기록 시각 (epoch millis)
+ * @param before    변경 전 값, 등록이면 null
+ * @param after     변경 후 값
+ */
+public record ItemChangeEvent(long sequence, Type type, long timestamp, ItemValue before, ItemValue after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+
+    static ItemChangeEvent of(long sequence, ItemValue before, ItemValue after) {
+        return new ItemChangeEvent(sequence, before == null ? Type.CREATED : Type.UPDATED,
+                System.currentTimeMillis(), before, after);
+    }
+
+    /**
+     * 같은 id 의 연속된 변경을 하나로 합침. | this 가 먼저 일어난 변경
+     * 처음 변경의 종류 / 변경 전 값과 마지막 변경의 번호 / 변경 후 값을 사용함.
+     */
+    public ItemChangeEvent merge(ItemChangeEvent next) {
+        return new ItemChangeEvent(next.sequence, type, next.timestamp, before, next.after);
+    }
+}
@@ -0,0 +1,13 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+
+/**
+ * 변경 알림 묶음. | ItemRepository.changeEventsAfter
+ * @param epoch        ItemRepository 생성 시각 | 바뀌면 재시작된 것이므로 sequence 를 이어갈 수 없음.
+ * @param reset        true 이면 요청한 위치부터 이어갈 수 없으므로 전체 목록을 다시 읽은 뒤 lastSequence 부터 이어감.
+ * @param lastSequence 응답 시점의 마지막 변경 번호
+ * @param events       요청한 위치 다음 변경부터 순서대로
+ */
+public record ItemChangeEvents(long epoch, boolean reset, long lastSequence, List<ItemChangeEvent> events) {
+}
@@ -0,0 +1,90 @@
+package hello.spring_item_service.domain.item;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * 최근 변경 로그. | 최근 capacity 개만 원형 배열에 보관함.
+ * 변경 번호는 기록 순서이며, save / update 모두 id lock 안에서 기록되므로 같은 id 의 변경 순서와 같음.
+ * 복제 (ItemChange) 와 변경 알림 (ItemChangeEvent) 이 각자의 로그를 사용함.
+ */
+final class ItemChangeLog<E> {
+
+    // 미사용 | 아무것도 기록하지 않음.
+    private static final ItemChangeLog<?> DISABLED = new ItemChangeLog<>(0);
+
+    private final Object[] changes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long lastSequence;
+
+    ItemChangeLog(int capacity) {
+        this.changes = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ItemChangeLog<E> disabled() {
+        return (ItemChangeLog<E>) DISABLED;
+    }
+
+    boolean isEnabled() {
+        return changes.length > 0;
+    }
+
+    /**
+     * 다음 변경 번호로 만든 항목을 기록하고 기다리는 쪽을 깨움.
+     * @param change 변경 번호를 받아 항목을 만듦. | lock 안에서 호출되므로 가볍게 만들어야 함.
+     */
+    void append(LongFunction<E> change) {
+        if (changes.length == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            long sequence = ++lastSequence;
+            changes[(int) (sequence % changes.length)] = change.apply(sequence);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * after 다음 변경을 순서대로 최대 max 개 반환함. | 새 변경이 없으면 wait 동안 기다린 뒤 빈 목록
+     * @return after 다음 변경이 이미 지워졌거나 after 가 마지막 번호보다 크면 null | 처음부터 다시 받아야 함.
+     */
+    @SuppressWarnings("unchecked")
+    List<E> awaitAfter(long after, int max, Duration wait) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = wait.toNanos();
+            while (after == lastSequence && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            if (after > lastSequence || after < lastSequence - changes.length) {
+                return null;
+            }
+            int count = (int) Math.min(lastSequence - after, max);
+            List<E> result = new ArrayList<>(count);
+            for (long sequence = after + 1; sequence <= after + count; sequence++) {
+                result.add((E) changes[(int) (sequence % changes.length)]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상품 변경 알림 설정. | item.feed.*
+ * ItemRepository 가 등록 / 수정마다 변경 전후 값을 변경 번호와 함께 기록하고, /api/items/changes 가 SSE 로 보냄.
+ */
+@Data
+@ConfigurationProperties("item.feed")
+public class ItemFeedProperties {
+
+    private boolean enabled = false;
+
+    // 메모리에 보관하는 최근 변경 수 | 구독자가 이보다 더 뒤처지면 reset 을 받고 전체 목록을 다시 읽어야 함.
+    private int logSize = 10_000;
+
+    // 동시 구독자 수 상한 | 넘으면 503
+    private int maxSubscribers = 10_000;
+
+    // 구독자에게 한 번에 보내는 최대 변경 수 | 같은 id 의 변경은 하나로 합쳐 보냄.
+    private int batchSize = 500;
+
+    // 변경이 없을 때 연결 확인용 comment 를 보내는 간격
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    // 구독 연결 최대 유지 시간 | 지나면 끊고, 클라이언트는 Last-Event-ID 로 이어서 구독함.
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,108 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * itemName / price 보조 인덱스.
+ * (값, id) 쌍을 정렬된 ConcurrentSkipListSet 에 보관하므로
+ * 추가 / 삭제가 단일 원자 연산이고, 접두어 / 범위 검색은 O(log N + 결과 수) 로 처리됨.
+ *
+ * 인덱스는 저장소보다 잠깐 늦거나 앞설 수 있으므로 조회 결과는 ItemRepository 에서 저장소 값으로 다시 확인함.
+ *
+ * Item 마다 key 객체와 skip list node 가 생기므로 item.repository.index=true 일 때만 사용함.
+ * 사용하지 않으면 disabled() 가 아무것도 보관하지 않고, 검색은 ItemRepository 에서 전체를 순회함.
+ */
+class ItemIndex {
+
+    // 미사용 | 아무것도 보관하지 않음.
+    private static final ItemIndex DISABLED = new ItemIndex(false);
+
+    private record NameKey(String name, long id) {
+    }
+
+    private record PriceKey(int price, long id) {
+    }
+
+    private final ConcurrentSkipListSet<NameKey> names = new ConcurrentSkipListSet<>(
+            Comparator.comparing(NameKey::name).thenComparingLong(NameKey::id));
+    private final ConcurrentSkipListSet<PriceKey> prices = new ConcurrentSkipListSet<>(
+            Comparator.comparingInt(PriceKey::price).thenComparingLong(PriceKey::id));
+    private final boolean enabled;
+
+    ItemIndex() {
+        this(true);
+    }
+
+    private ItemIndex(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    static ItemIndex disabled() {
+        return DISABLED;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void add(ItemValue item) {
+        if (!enabled) {
+            return;
+        }
+        if (item.getItemName() != null) {
+            names.add(new NameKey(item.getItemName(), item.getId()));
+        }
+        if (item.getPrice() != null) {
+            prices.add(new PriceKey(item.getPrice(), item.getId()));
+        }
+    }
+
+    // 값이 바뀐 인덱스만 갱신함.
+    void replace(ItemValue before, ItemValue after) {
+        if (!enabled) {
+            return;
+        }
+        if (!Objects.equals(before.getItemName(), after.getItemName())) {
+            if (before.getItemName() != null) {
+                names.remove(new NameKey(before.getItemName(), before.getId()));
+            }
+            if (after.getItemName() != null) {
+                names.add(new NameKey(after.getItemName(), after.getId()));
+            }
+        }
+        if (!Objects.equals(before.getPrice(), after.getPrice())) {
+            if (before.getPrice() != null) {
+                prices.remove(new PriceKey(before.getPrice(), before.getId()));
+            }
+            if (after.getPrice() != null) {
+                prices.add(new PriceKey(after.getPrice(), after.getId()));
+            }
+        }
+    }
+
+    // itemName 이 prefix 로 시작하는 id 를 이름 순으로 조회.
+    Stream<Long> idsByNamePrefix(String prefix) {
+        return names.tailSet(new NameKey(prefix, Long.MIN_VALUE)).stream()
+                .takeWhile(key -> key.name().startsWith(prefix))
+                .map(NameKey::id);
+    }
+
+    // minPrice <= price <= maxPrice 인 id 를 가격 순으로 조회. | null 이면 해당 방향 제한 없음.
+    Stream<Long> idsByPriceRange(Integer minPrice, Integer maxPrice) {
+        PriceKey from = new PriceKey(minPrice == null ? Integer.MIN_VALUE : minPrice, Long.MIN_VALUE);
+        PriceKey to = new PriceKey(maxPrice == null ? Integer.MAX_VALUE : maxPrice, Long.MAX_VALUE);
+        if (prices.comparator().compare(from, to) > 0) {
+            return Stream.empty();
+        }
+        return prices.subSet(from, true, to, true).stream()
+                .map(PriceKey::id);
+    }
+
+    void clear() {
+        names.clear();
+        prices.clear();
+    }
+}
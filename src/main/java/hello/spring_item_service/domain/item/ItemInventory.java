@@ -0,0 +1,115 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재고 집계 누적기. | ItemRepository 가 저장소를 바꿀 때마다 이전 값과 새 값의 차이만 더함.
+ * 값마다 LongAdder 를 사용하므로 동시에 여러 스레드가 저장 / 수정해도 한 값을 두고 경쟁하지 않음.
+ * 여러 LongAdder 를 한 번에 읽지는 않으므로 쓰는 도중의 stats() 는 잠깐 서로 맞지 않을 수 있지만,
+ * 쓰기가 끝나면 저장소 전체를 다시 계산한 값과 같음.
+ */
+final class ItemInventory {
+
+    // 가격 구간 경계 | [~10,000), [10,000~50,000), [50,000~100,000), [100,000~500,000), [500,000~)
+    static final int[] PRICE_BOUNDS = {10_000, 50_000, 100_000, 500_000};
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalQuantity = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAdder[] priceBuckets = new LongAdder[PRICE_BOUNDS.length + 1];
+
+    ItemInventory() {
+        Arrays.setAll(priceBuckets, i -> new LongAdder());
+    }
+
+    void add(ItemValue item) {
+        count.increment();
+        totalQuantity.add(quantity(item));
+        totalValue.add(value(item));
+        if (item.getPrice() != null) {
+            priceBuckets[bucket(item.getPrice())].increment();
+        }
+    }
+
+    void remove(ItemValue item) {
+        count.decrement();
+        totalQuantity.add(-quantity(item));
+        totalValue.add(-value(item));
+        if (item.getPrice() != null) {
+            priceBuckets[bucket(item.getPrice())].decrement();
+        }
+    }
+
+    // before 가 null 이면 새 Item | 수량 / 금액은 차이만, 가격 구간은 바뀐 경우에만 옮김.
+    void replace(ItemValue before, ItemValue after) {
+        if (before == null) {
+            add(after);
+            return;
+        }
+        long quantityDelta = quantity(after) - quantity(before);
+        if (quantityDelta != 0) {
+            totalQuantity.add(quantityDelta);
+        }
+        long valueDelta = value(after) - value(before);
+        if (valueDelta != 0) {
+            totalValue.add(valueDelta);
+        }
+        int beforeBucket = before.getPrice() == null ? -1 : bucket(before.getPrice());
+        int afterBucket = after.getPrice() == null ? -1 : bucket(after.getPrice());
+        if (beforeBucket != afterBucket) {
+            if (beforeBucket >= 0) {
+                priceBuckets[beforeBucket].decrement();
+            }
+            if (afterBucket >= 0) {
+                priceBuckets[afterBucket].increment();
+            }
+        }
+    }
+
+    void clear() {
+        count.reset();
+        totalQuantity.reset();
+        totalValue.reset();
+        for (LongAdder bucket : priceBuckets) {
+            bucket.reset();
+        }
+    }
+
+    ItemInventoryStats stats() {
+        List<ItemInventoryStats.PriceBucket> histogram = new ArrayList<>(priceBuckets.length);
+        for (int i = 0; i < priceBuckets.length; i++) {
+            histogram.add(new ItemInventoryStats.PriceBucket(
+                    i == 0 ? null : PRICE_BOUNDS[i - 1],
+                    i == PRICE_BOUNDS.length ? null : PRICE_BOUNDS[i],
+                    priceBuckets[i].sum()));
+        }
+        return new ItemInventoryStats(count.sum(), totalQuantity.sum(), totalValue.sum(), histogram);
+    }
+
+    // 저장소 전체를 다시 계산함. | 검증용
+    static ItemInventoryStats recompute(Iterable<ItemValue> items) {
+        ItemInventory inventory = new ItemInventory();
+        items.forEach(inventory::add);
+        return inventory.stats();
+    }
+
+    // int * int 는 long 으로 계산해야 넘치지 않음.
+    static long value(ItemValue item) {
+        return item.getPrice() == null || item.getQuantity() == null ? 0L : (long) item.getPrice() * item.getQuantity();
+    }
+
+    private static long quantity(ItemValue item) {
+        return item.getQuantity() == null ? 0L : item.getQuantity();
+    }
+
+    private static int bucket(int price) {
+        int bucket = 0;
+        while (bucket < PRICE_BOUNDS.length && price >= PRICE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
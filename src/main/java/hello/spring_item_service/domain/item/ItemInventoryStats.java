@@ -0,0 +1,33 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 집계. | /api/items/stats, ItemRepository 가 save / update 마다 차이만 반영해 두므로 조회는 O(1)
+ * @param count          저장된 Item 수
+ * @param totalQuantity  수량 합계 (수량이 없으면 0)
+ * @param totalValue     가격 * 수량 합계 | long 으로 계산하므로 Item 하나의 값이 int 범위를 넘어도 정확함.
+ * @param priceHistogram 가격 구간별 Item 수 | 가격이 없는 Item 은 세지 않음.
+ */
+public record ItemInventoryStats(long count, long totalQuantity, long totalValue, List<PriceBucket> priceHistogram) {
+
+    /**
+     * @param minPrice 구간 최소 가격 (포함), 첫 구간이면 null
+     * @param maxPrice 구간 최대 가격 (제외), 마지막 구간이면 null
+     */
+    public record PriceBucket(Integer minPrice, Integer maxPrice, long count) {
+    }
+
+    // 두 노드의 값을 합침. | 구간은 모든 노드가 같음.
+    ItemInventoryStats merge(ItemInventoryStats other) {
+        List<PriceBucket> buckets = new ArrayList<>(priceHistogram.size());
+        for (int i = 0; i < priceHistogram.size(); i++) {
+            PriceBucket bucket = priceHistogram.get(i);
+            buckets.add(new PriceBucket(bucket.minPrice(), bucket.maxPrice(),
+                    bucket.count() + other.priceHistogram.get(i).count()));
+        }
+        return new ItemInventoryStats(count + other.count, totalQuantity + other.totalQuantity,
+                totalValue + other.totalValue, buckets);
+    }
+}
@@ -0,0 +1,38 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ItemRepository 변경 기록.
+ * save / update 후의 Item 전체 값을 순서대로 기록하며, 반환된 future 가 완료되면 설정된 정책만큼 내구성이 보장됨.
+ */
+interface ItemJournal extends AutoCloseable {
+
+    CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    // 메모리 전용 | 아무것도 기록하지 않음.
+    ItemJournal NONE = new ItemJournal() {
+        @Override
+        public CompletableFuture<Void> append(List<ItemValue> items) {
+            return COMPLETED;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * items 를 하나의 묶음으로 기록함.
+     * Item 값은 호출 시점에 직렬화되므로 이후 Item 이 바뀌어도 기록 내용은 바뀌지 않음.
+     */
+    CompletableFuture<Void> append(List<ItemValue> items);
+
+    default CompletableFuture<Void> append(ItemValue item) {
+        return append(List.of(item));
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,26 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+
+/**
+ * 다른 파티션 노드의 ItemRepository 호출.
+ * id 로 찾는 작업은 그 id 의 파티션을 맡은 노드에서만 호출하고,
+ * page / search / stats / inventory 는 그 노드가 맡은 Item 만 대상으로 함.
+ */
+interface ItemNode {
+
+    ItemValue findById(long id);
+
+    boolean update(long id, Item updateParam);
+
+    ItemUpdateResult updateAll(List<Item> updateParams, boolean allOrNothing);
+
+    // cursor 보다 큰 id 를 id 오름차순으로 최대 limit 개
+    List<ItemValue> page(long cursor, int limit);
+
+    List<ItemValue> search(ItemSearchCond cond, int limit);
+
+    ItemStats stats();
+
+    ItemInventoryStats inventory();
+}
@@ -0,0 +1,27 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * id 순서 keyset 페이지 조회 결과.
+ * nextCursor 는 다음 페이지 조회 시 cursor 로 넘길 마지막 id. 마지막 페이지이면 null.
+ */
+@Getter
+public class ItemPage {
+
+    private final List<ItemValue> items;
+    private final int size;
+    private final Long nextCursor;
+
+    public ItemPage(List<ItemValue> items, int size, Long nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,43 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ItemRepository 파티션 설정. | item.partition.*
+ * enabled=false 이면 기존처럼 이 인스턴스 하나가 모든 Item 을 보관함.
+ * 모든 노드는 count / nodes / virtualNodes 를 같은 값으로 설정해야 함.
+ */
+@Data
+@ConfigurationProperties("item.partition")
+public class ItemPartitionProperties {
+
+    // 노드 간 호출에 secret 을 담는 요청 헤더 | /internal/items 는 이 값이 같은 요청만 처리함.
+    public static final String SECRET_HEADER = "X-Item-Partition-Secret";
+
+    private boolean enabled = false;
+
+    // 전체 파티션 수 | id % count 가 파티션 번호. 노드 수보다 충분히 커야 노드별 파티션 수가 고르게 나뉨.
+    // id 에 파티션 번호가 들어가므로 저장된 Item 이 있으면 바꿀 수 없음.
+    private int count = 256;
+
+    // 모든 노드의 주소 (http://host:port) | 순서와 관계없이 같은 노드가 같은 파티션을 맡음.
+    private List<URI> nodes = new ArrayList<>();
+
+    // 이 노드의 주소 | nodes 중 하나
+    private URI self;
+
+    // consistent hashing 링에 노드마다 두는 가상 노드 수
+    private int virtualNodes = 128;
+
+    // 다른 노드 호출의 연결 / 응답 대기 시간
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // 노드 간 호출 (/internal/items) 인증 값 | 모든 노드가 같은 값, enabled=true 이면 필수
+    private String secret;
+}
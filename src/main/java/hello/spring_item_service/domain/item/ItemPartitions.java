@@ -0,0 +1,194 @@
+package hello.spring_item_service.domain.item;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Item id 를 파티션으로, 파티션을 노드로 나누는 규칙.
+ *
+ * 파티션 번호는 id % count 이고, 파티션은 consistent hashing 링으로 노드에 배정함.
+ * 링은 노드 주소만으로 만들어지므로 같은 설정의 모든 노드가 같은 배정 결과를 가짐.
+ *
+ * id 는 저장한 노드가 자신이 맡은 파티션 중 하나로 만듦. | id = sequence * count + 파티션
+ * sequence 는 노드마다 따로 증가하지만 파티션 번호가 노드마다 다르므로 노드 간 id 가 겹치지 않고,
+ * save 는 다른 노드를 호출하지 않음.
+ *
+ * 노드 목록은 고정이며, 노드를 추가 / 제거해도 기존 Item 을 옮기지 않음.
+ */
+final class ItemPartitions implements AutoCloseable {
+
+    // 파티션 미사용 | 모든 id 가 이 노드에 있고 id = sequence
+    static final ItemPartitions SINGLE = new ItemPartitions(new int[]{0}, 0, new ItemNode[1]);
+
+    private final int count;
+    // 파티션 번호 -> 노드 번호
+    private final int[] owners;
+    private final int self;
+    // 이 노드가 맡은 파티션 번호
+    private final int[] owned;
+    // 노드 번호 -> 호출 대상 | 이 노드 자리는 null
+    private final ItemNode[] nodes;
+    // 여러 노드를 동시에 호출할 때 사용 | 호출은 HTTP 응답을 기다리므로 가상 스레드로 실행함.
+    private final ExecutorService executor;
+
+    ItemPartitions(int[] owners, int self, ItemNode[] nodes) {
+        this.count = owners.length;
+        this.owners = owners;
+        this.self = self;
+        this.nodes = nodes;
+        this.owned = ownedBy(owners, self);
+        if (owned.length == 0) {
+            throw new IllegalStateException("이 노드가 맡은 파티션이 없음. item.partition.count 를 늘려야 함. node=" + self);
+        }
+        this.executor = nodes.length > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    static ItemPartitions create(ItemPartitionProperties properties) {
+        if (!properties.isEnabled()) {
+            return SINGLE;
+        }
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("item.partition.secret 을 설정해야 함. | /internal/items 는 같은 secret 을 가진 노드만 호출할 수 있음.");
+        }
+        List<String> names = properties.getNodes().stream().map(URI::toString).toList();
+        int self = names.indexOf(String.valueOf(properties.getSelf()));
+        if (self < 0) {
+            throw new IllegalStateException("item.partition.self 가 item.partition.nodes 에 없음. self="
+                    + properties.getSelf() + " nodes=" + names);
+        }
+        ItemNode[] nodes = new ItemNode[names.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            if (i != self) {
+                nodes[i] = new RestItemNode(properties.getNodes().get(i), properties.getTimeout(), properties.getSecret());
+            }
+        }
+        return new ItemPartitions(assign(properties.getCount(), names, properties.getVirtualNodes()), self, nodes);
+    }
+
+    /**
+     * 파티션별 담당 노드 번호. | 노드마다 virtualNodes 개의 점을 링에 두고, 파티션은 시계 방향으로 처음 만나는 점의 노드가 맡음.
+     * 노드가 하나 추가되면 새 노드의 점 앞에 있던 파티션만 옮겨지므로 약 1 / (노드 수) 만 담당이 바뀜.
+     */
+    static int[] assign(int count, List<String> nodes, int virtualNodes) {
+        TreeMap<Long, Integer> ring = new TreeMap<>();
+        for (int node = 0; node < nodes.size(); node++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(hash(nodes.get(node) + "#" + v), node);
+            }
+        }
+        int[] owners = new int[count];
+        for (int partition = 0; partition < count; partition++) {
+            Map.Entry<Long, Integer> point = ring.ceilingEntry(hash("partition-" + partition));
+            owners[partition] = (point != null ? point : ring.firstEntry()).getValue();
+        }
+        return owners;
+    }
+
+    // FNV-1a 64 + murmur3 fmix64 | JVM / 실행마다 같은 값을 내야 하므로 String.hashCode 대신 사용함.
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe1a85ec3L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int[] ownedBy(int[] owners, int node) {
+        List<Integer> owned = new ArrayList<>();
+        for (int partition = 0; partition < owners.length; partition++) {
+            if (owners[partition] == node) {
+                owned.add(partition);
+            }
+        }
+        return owned.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // 다른 노드가 있는지 여부 | false 이면 모든 작업을 이 노드에서 처리함.
+    boolean isPartitioned() {
+        return nodes.length > 1;
+    }
+
+    int self() {
+        return self;
+    }
+
+    // 파티션 수 | 이 노드의 id 는 count 간격으로 발급됨.
+    int count() {
+        return count;
+    }
+
+    int nodeOf(long id) {
+        return owners[Math.floorMod(id, count)];
+    }
+
+    boolean isLocal(long id) {
+        return nodeOf(id) == self;
+    }
+
+    ItemNode node(int node) {
+        return nodes[node];
+    }
+
+    // sequence 번째로 저장하는 Item 의 id | 맡은 파티션을 돌아가며 사용함.
+    long toId(long sequence) {
+        return count == 1 ? sequence : sequence * count + owned[Math.floorMod(sequence, owned.length)];
+    }
+
+    // id 를 만든 sequence | 복구 시 sequence 를 이어가기 위해 사용함.
+    long toSequence(long id) {
+        return id / count;
+    }
+
+    /**
+     * 모든 노드에서 실행한 결과를 노드 번호 순서로 반환함.
+     * 다른 노드 호출은 동시에 보내고, 그동안 이 노드의 결과는 호출한 스레드에서 만듦.
+     * 한 노드라도 실패하면 그 예외를 그대로 던짐.
+     */
+    <T> List<T> gather(Function<ItemNode, T> remote, Supplier<T> local) {
+        List<CompletableFuture<T>> calls = new ArrayList<>(nodes.length);
+        for (int node = 0; node < nodes.length; node++) {
+            ItemNode target = nodes[node];
+            calls.add(node == self ? null : CompletableFuture.supplyAsync(() -> remote.apply(target), executor));
+        }
+        T localResult = local.get();
+        List<T> results = new ArrayList<>(nodes.length);
+        for (int node = 0; node < nodes.length; node++) {
+            results.add(node == self ? localResult : join(calls.get(node)));
+        }
+        return results;
+    }
+
+    private static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * ItemRepository 파일 저장 설정. | item.persistence.*
+ * enabled=false 이면 기존처럼 메모리에만 보관함.
+ */
+@Data
+@ConfigurationProperties("item.persistence")
+public class ItemPersistenceProperties {
+
+    private boolean enabled = false;
+
+    // 로그 / 스냅샷 파일 위치
+    private Path dir = Path.of("data");
+
+    private SyncPolicy sync = SyncPolicy.INTERVAL;
+
+    // sync=interval 일 때 fsync 주기
+    private Duration syncInterval = Duration.ofMillis(100);
+
+    // 로그 레코드가 이 수만큼 쌓이면 스냅샷을 만들고 이전 로그를 정리함.
+    private long snapshotEvery = 100_000;
+
+    // 기동 후 스냅샷 Item 을 메모리 저장소로 옮길지 여부. | false 이면 스냅샷은 map 된 상태로 조회에만 사용하고 검색은 전체 순회로 처리함.
+    private boolean hydrate = true;
+
+    public enum SyncPolicy {
+        // 쓰기마다 fsync. | 동시에 들어온 쓰기는 한 번의 fsync 로 묶어서 처리(group commit)하며, 요청은 fsync 완료까지 대기함.
+        ALWAYS,
+        // syncInterval 마다 fsync. | 요청은 대기하지 않으며 장애 시 마지막 주기 만큼 유실될 수 있음.
+        INTERVAL,
+        // fsync 하지 않고 OS 버퍼에 맡김.
+        OS
+    }
+}
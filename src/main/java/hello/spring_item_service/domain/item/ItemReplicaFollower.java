@@ -0,0 +1,211 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.domain.item.ItemReplicationProperties.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * follower 복제 스레드. | item-replica-follower
+ * leader 의 /internal/replication/changes 를 long polling 으로 계속 호출해 받은 변경을 순서대로 반영함.
+ *
+ * 처음 연결하거나, leader 가 재시작되었거나 (epoch 변경), leader 로그에서 이미 지워진 위치를 요청하면
+ * leader 가 reset 을 응답하므로 저장소를 비우고 /internal/replication/snapshot 으로 전체 Item 을 받은 뒤
+ * reset 응답의 변경 번호부터 이어 받음. 스냅샷 도중의 변경은 이후 로그로 다시 받으며, version 이 낮은 값은 반영하지 않음.
+ *
+ * leader 호출이 실패하면 retryDelay 뒤 같은 위치부터 다시 요청함.
+ * 모든 요청에 item.replication.secret 을 SECRET_HEADER 로 담음.
+ */
+@Slf4j
+final class ItemReplicaFollower implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SNAPSHOT_PAGE = 1_000;
+    private static final ParameterizedTypeReference<List<Item>> ITEMS = new ParameterizedTypeReference<>() {
+    };
+
+    private final ItemReplicationProperties properties;
+    private final RestClient client;
+    private final Consumer<List<ItemValue>> apply;
+    private final Runnable reset;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // 반영 위치 | 복제 스레드만 쓰고, 다른 스레드는 status / await 에서 읽음.
+    private volatile long epoch;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile long lastContact;
+    private volatile long caughtUpAt = System.currentTimeMillis();
+
+    // read-your-writes 대기
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition applied = lock.newCondition();
+
+    private ItemReplicaFollower(ItemReplicationProperties properties, Consumer<List<ItemValue>> apply, Runnable reset) {
+        this.properties = properties;
+        this.client = RestItemNode.restClient(properties.getLeader().resolve("/internal/replication"),
+                        properties.getTimeout(), properties.getTimeout().plus(properties.getPollWait()))
+                .mutate()
+                .defaultHeader(ItemReplicationProperties.SECRET_HEADER, properties.getSecret())
+                .build();
+        this.apply = apply;
+        this.reset = reset;
+        this.thread = new Thread(this::run, "item-replica-follower");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * @param apply leader 에서 받은 Item 값을 저장소에 반영
+     * @param reset 전체 Item 을 다시 받기 전에 저장소를 비움
+     */
+    static ItemReplicaFollower start(ItemReplicationProperties properties, Consumer<List<ItemValue>> apply, Runnable reset) {
+        if (properties.getLeader() == null) {
+            throw new IllegalStateException("item.replication.role=follower 에는 item.replication.leader 가 필요함.");
+        }
+        ItemReplicaFollower follower = new ItemReplicaFollower(properties, apply, reset);
+        follower.thread.start();
+        return follower;
+    }
+
+    private void run() {
+        boolean failing = false;
+        while (running) {
+            try {
+                poll();
+                if (failing) {
+                    log.info("item replication reconnected. leader={}", properties.getLeader());
+                    failing = false;
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                // 연속 실패는 처음 한 번만 warn 으로 남김.
+                if (!failing) {
+                    log.warn("item replication poll failed. leader={} error={}", properties.getLeader(), e.toString());
+                    failing = true;
+                }
+                sleep(properties.getRetryDelay());
+            }
+        }
+    }
+
+    private void poll() {
+        Batch batch = client.get()
+                .uri("/changes?epoch={epoch}&after={after}&max={max}&waitMillis={waitMillis}",
+                        epoch, appliedSequence, BATCH_SIZE, properties.getPollWait().toMillis())
+                .retrieve()
+                .body(Batch.class);
+        if (batch.reset()) {
+            resync(batch);
+        } else {
+            for (Change change : batch.changes()) {
+                apply.accept(RestItemNode.values(change.items()));
+                appliedSequence = change.sequence();
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        leaderSequence = batch.lastSequence();
+        lastContact = now;
+        if (appliedSequence >= leaderSequence) {
+            caughtUpAt = now;
+        }
+        signalApplied();
+    }
+
+    // 저장소를 비우고 leader 의 전체 Item 을 id 순서로 받음.
+    private void resync(Batch batch) {
+        long startNanos = System.nanoTime();
+        reset.run();
+        long cursor = 0;
+        long count = 0;
+        List<Item> page;
+        do {
+            page = client.get()
+                    .uri("/snapshot?cursor={cursor}&limit={limit}", cursor, SNAPSHOT_PAGE)
+                    .retrieve()
+                    .body(ITEMS);
+            if (!page.isEmpty()) {
+                apply.accept(RestItemNode.values(page));
+                cursor = page.getLast().getId();
+                count += page.size();
+            }
+        } while (page.size() == SNAPSHOT_PAGE);
+
+        epoch = batch.epoch();
+        appliedSequence = batch.lastSequence();
+        log.info("item replica resynced. leader={} items={} sequence={} elapsedMs={}",
+                properties.getLeader(), count, appliedSequence, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void signalApplied() {
+        lock.lock();
+        try {
+            applied.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * leader 의 epoch / sequence 변경이 반영될 때까지 최대 timeout 동안 기다림.
+     * @return 반영되었으면 true
+     */
+    boolean await(long epoch, long sequence, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (!isApplied(epoch, sequence)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = applied.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isApplied(long epoch, long sequence) {
+        return this.epoch == epoch && appliedSequence >= sequence;
+    }
+
+    ItemReplicationStatus status() {
+        long now = System.currentTimeMillis();
+        long applied = appliedSequence;
+        long leader = Math.max(leaderSequence, applied);
+        boolean caughtUp = lastContact > 0 && applied >= leader;
+        return new ItemReplicationStatus(Role.FOLLOWER, applied, leader, leader - applied,
+                caughtUp ? 0 : now - caughtUpAt, lastContact == 0 ? -1 : now - lastContact);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+    }
+
+    // ItemValue 는 기본 생성자가 없으므로 같은 JSON 필드의 Item 으로 받음. | ItemReplicationBatch / ItemChange 와 같은 형식
+    record Batch(long epoch, boolean reset, long lastSequence, List<Change> changes) {
+    }
+
+    record Change(long sequence, long timestamp, List<Item> items) {
+    }
+}
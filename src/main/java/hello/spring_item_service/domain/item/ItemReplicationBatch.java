@@ -0,0 +1,13 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+
+/**
+ * leader 가 follower 에게 보내는 변경 묶음.
+ * @param epoch        leader ItemRepository 생성 시각 | 바뀌면 leader 가 재시작된 것이므로 sequence 를 이어갈 수 없음.
+ * @param reset        true 이면 요청한 위치부터 이어갈 수 없으므로 전체 Item 을 다시 받은 뒤 lastSequence 부터 이어감.
+ * @param lastSequence 응답 시점의 leader 마지막 변경 번호
+ * @param changes      요청한 위치 다음 변경부터 순서대로
+ */
+public record ItemReplicationBatch(long epoch, boolean reset, long lastSequence, List<ItemChange> changes) {
+}
@@ -0,0 +1,54 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * ItemRepository 복제 설정. | item.replication.*
+ * leader 는 save / update 결과를 순서대로 변경 로그에 남기고, follower 는 그 로그를 받아 자신의 저장소에 반영함.
+ * follower 는 조회만 처리하고 쓰기 요청은 leader 로 보냄.
+ */
+@Data
+@ConfigurationProperties("item.replication")
+public class ItemReplicationProperties {
+
+    // follower 가 secret 을 담는 요청 헤더 | /internal/replication 은 이 값이 같은 요청만 처리함.
+    public static final String SECRET_HEADER = "X-Item-Replication-Secret";
+
+    private Role role = Role.NONE;
+
+    // role=follower 일 때 leader 주소 (http://host:port)
+    private URI leader;
+
+    // 복제 API (/internal/replication) 인증 값 | leader / follower 가 같은 값, role 이 none 이 아니면 필수
+    private String secret;
+
+    // leader 가 메모리에 보관하는 최근 변경 수 | follower 가 이보다 더 뒤처지면 전체 Item 을 다시 받음.
+    private int logSize = 100_000;
+
+    // follower 가 새 변경을 기다리는 최대 시간 (long polling) | 변경이 있으면 바로 응답 받음.
+    private Duration pollWait = Duration.ofSeconds(1);
+
+    // leader 호출의 연결 / 응답 대기 시간 (pollWait 제외)
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // leader 호출 실패 후 다시 시도하기까지의 시간
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    // true 이면 leader 가 쓰기 응답에 변경 번호 쿠키를 남기고, follower 는 그 변경이 반영될 때까지 GET 을 기다림.
+    // 등록 / 수정 후 redirect 된 상세 화면이 follower 에서 처리되어도 방금 쓴 값이 보임.
+    private boolean readYourWrites = false;
+
+    // read-your-writes 최대 대기 시간 | 지나면 follower 의 현재 값으로 응답함.
+    private Duration readYourWritesTimeout = Duration.ofSeconds(1);
+
+    public enum Role {
+        // 복제 미사용
+        NONE,
+        LEADER,
+        FOLLOWER
+    }
+}
@@ -0,0 +1,21 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.domain.item.ItemReplicationProperties.Role;
+
+/**
+ * 복제 상태. | /api/items/replication, item.replication.* 지표
+ * @param appliedSequence   반영한 마지막 변경 번호 (leader 는 마지막 변경 번호)
+ * @param leaderSequence    마지막으로 확인한 leader 의 변경 번호
+ * @param lagSequences      아직 반영하지 못한 변경 수
+ * @param lagMillis         leader 를 따라잡지 못한 채 지난 시간, 따라잡았으면 0
+ * @param lastContactMillis 마지막으로 leader 응답을 받은 뒤 지난 시간, 받은 적이 없으면 -1
+ */
+public record ItemReplicationStatus(Role role, long appliedSequence, long leaderSequence,
+                                    long lagSequences, long lagMillis, long lastContactMillis) {
+
+    static final ItemReplicationStatus NONE = new ItemReplicationStatus(Role.NONE, 0, 0, 0, 0, -1);
+
+    static ItemReplicationStatus leader(long lastSequence) {
+        return new ItemReplicationStatus(Role.LEADER, lastSequence, lastSequence, 0, 0, 0);
+    }
+}
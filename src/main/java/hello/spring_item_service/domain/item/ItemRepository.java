@@ -1,40 +1,889 @@
 package hello.spring_item_service.domain.item;
 
+import hello.spring_item_service.domain.item.ItemReplicationProperties.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+// REFACTOR : 동시 요청에서도 안전하도록 ConcurrentHashMap + AtomicLong 사용.
+// static HashMap 은 동시 put 시 resize 중 손상될 수 있고, ++sequence 는 원자적이지 않아 ID 중복이 발생함.
+// REFACTOR : 저장 방식을 ItemStore 로 분리. | item.repository.storage 로 heap / columnar 선택.
+// REFACTOR : itemName / price 보조 인덱스 추가. | save, update 시 함께 갱신함.
+// REFACTOR : 보조 인덱스는 item.repository.index=true 일 때만 사용함. | Item 마다 key / node 객체가 생겨 columnar 저장 방식의 메모리 절감을 없애므로 기본은 전체 순회 검색.
+// REFACTOR : item.persistence.enabled=true 이면 변경 내용을 로그 파일에 기록하고 재시작 시 복구함.
+// REFACTOR : 스냅샷은 map 만 하고 바로 조회에 사용, Item 은 백그라운드에서 메모리로 옮김. | 기동 시간이 카탈로그 크기와 무관해짐.
+// PLUS : saveAll / updateAll 추가. | 여러 Item 을 lock, 로그 기록 한 번으로 반영함.
+// PLUS : Item version / lastModified 와 저장소 전체 변경 횟수 추가. | 조건부 GET (ETag / Last-Modified) 용
+// PLUS : item.cache.enabled=true 이면 findById 앞에 크기 / TTL 제한 캐시를 둠. | 수정 시 id lock 안에서 invalidate 함.
+// REFACTOR : 저장소에는 변경 불가능한 ItemValue 를 보관하고 조회 결과로 그대로 반환함. | 폼 Item 은 저장 시 값만 복사하므로 호출한 쪽이 이후에 바꿔도 저장소에 영향이 없음.
+// PLUS : 저장 / 조회 / 수정 작업별 Timer (item.repository) 기록.
+// PLUS : item.partition.enabled=true 이면 id 를 파티션으로 나눠 여러 노드에 보관함.
+// id 로 찾는 작업은 담당 노드로 보내고, 목록 / 검색 / count 는 모든 노드 결과를 id 순으로 합침. | ItemPartitions 참고
+// PLUS : item.replication.role=leader 이면 변경을 ItemChangeLog 에 순서대로 남기고, follower 는 그 로그를 받아 반영함. | follower 는 조회 전용
+// PLUS : 재고 집계 (수 / 수량 / 가격 * 수량 / 가격 구간) 를 저장소가 바뀔 때마다 차이만 반영해 둠. | ItemInventory 참고
+// PLUS : item.feed.enabled=true 이면 등록 / 수정마다 변경 전후 값을 ItemChangeEvent 로 남김. | /api/items/changes 에서 사용
+@Slf4j
 @Repository
 public class ItemRepository {
-    private static final Map<Long, Item> store = new HashMap<>();
-    private static long sequence = 0L;
+    public static final int MAX_PAGE_SIZE = 100;
 
-    public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
+    private static final int LOCK_STRIPES = 64;
+    // 파티션 사용 시 stream() 이 노드마다 한 번에 읽는 Item 수
+    private static final int GATHER_BATCH = 1_000;
+    private static final Comparator<ItemValue> ID_ORDER = Comparator.comparing(ItemValue::getId);
+
+    private final ItemStore store;
+    // 파일 저장 사용 시에만 존재 | 기동 중 스냅샷 읽기 계층
+    private final SnapshotBackedItemStore snapshotStore;
+    // item.repository.index=false 이면 ItemIndex.disabled()
+    private final ItemIndex index;
+    private final ItemInventory inventory = new ItemInventory();
+    private final AtomicLong sequence = new AtomicLong();
+    // 저장소 전체 변경 횟수 / 마지막 변경 시각 | 목록 화면 ETag / Last-Modified 용
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final AtomicLong lastModified = new AtomicLong(System.currentTimeMillis());
+    // 재시작 후 modificationCount 가 이전과 같은 값이 되어도 구분하기 위한 값
+    private final long epoch = System.currentTimeMillis();
+    // 같은 id 수정만 직렬화하는 lock | 저장소와 인덱스 갱신 순서를 맞추기 위해 사용하며 조회는 lock 을 잡지 않음.
+    // synchronized 대신 ReentrantLock 을 사용하고 lock 안에서는 파일 기록을 기다리지 않으므로 가상 스레드의 carrier 를 고정하지 않음.
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final ItemPersistenceProperties persistence;
+    private ItemJournal journal = ItemJournal.NONE;
+    private final ItemCache cache;
+    private final ItemRepositoryMetrics metrics;
+    private final ItemPartitions partitions;
+    private final ItemReplicationProperties replication;
+    // leader 에서만 기록함.
+    private final ItemChangeLog<ItemChange> changeLog;
+    // item.feed.enabled=true 일 때만 기록함. | 파티션 사용 시 이 노드가 맡은 Item 의 변경만 남음.
+    private final ItemChangeLog<ItemChangeEvent> changeEvents;
+    // follower 에서만 존재 | open() 에서 시작함.
+    private ItemReplicaFollower follower;
+
+    public ItemRepository() {
+        this(ItemStorage.HEAP);
+    }
+
+    public ItemRepository(ItemStorage storage) {
+        this(storage, new ItemPersistenceProperties());
+    }
+
+    public ItemRepository(ItemStorage storage, boolean indexed) {
+        this(storage, indexed, new ItemPersistenceProperties(), new ItemCacheProperties(), ItemRepositoryMetrics.NONE,
+                ItemPartitions.SINGLE, new ItemReplicationProperties(), new ItemFeedProperties());
+    }
+
+    public ItemRepository(ItemStorage storage, ItemPersistenceProperties persistence) {
+        this(storage, persistence, new ItemCacheProperties());
+    }
+
+    public ItemRepository(ItemStorage storage, ItemPersistenceProperties persistence, ItemCacheProperties cacheProperties) {
+        this(storage, false, persistence, cacheProperties, ItemRepositoryMetrics.NONE, ItemPartitions.SINGLE,
+                new ItemReplicationProperties(), new ItemFeedProperties());
+    }
+
+    @Autowired
+    public ItemRepository(@Value("${item.repository.storage:heap}") ItemStorage storage,
+                          @Value("${item.repository.index:false}") boolean indexed,
+                          ItemPersistenceProperties persistence,
+                          ItemCacheProperties cacheProperties,
+                          ItemPartitionProperties partitionProperties,
+                          ItemReplicationProperties replication,
+                          ItemFeedProperties feed,
+                          MeterRegistry meterRegistry) {
+        this(storage, indexed, persistence, cacheProperties, new ItemRepositoryMetrics(meterRegistry),
+                ItemPartitions.create(partitionProperties), replication, feed);
+    }
+
+    private ItemRepository(ItemStorage storage, boolean indexed, ItemPersistenceProperties persistence,
+                           ItemCacheProperties cacheProperties, ItemRepositoryMetrics metrics,
+                           ItemPartitions partitions, ItemReplicationProperties replication,
+                           ItemFeedProperties feed) {
+        if (partitions.isPartitioned() && replication.getRole() != Role.NONE) {
+            throw new IllegalStateException("item.partition 과 item.replication 은 함께 사용할 수 없음.");
+        }
+        if (replication.getRole() != Role.NONE && (replication.getSecret() == null || replication.getSecret().isBlank())) {
+            throw new IllegalStateException("item.replication.secret 을 설정해야 함. | /internal/replication 은 같은 secret 을 가진 follower 만 호출할 수 있음.");
+        }
+        this.index = indexed ? new ItemIndex() : ItemIndex.disabled();
+        this.persistence = persistence;
+        this.cache = ItemCache.create(cacheProperties);
+        this.metrics = metrics;
+        this.partitions = partitions;
+        this.replication = replication;
+        this.changeLog = replication.getRole() == Role.LEADER
+                ? new ItemChangeLog<>(replication.getLogSize())
+                : ItemChangeLog.disabled();
+        this.changeEvents = feed.isEnabled() ? new ItemChangeLog<>(feed.getLogSize()) : ItemChangeLog.disabled();
+        if (persistence.isEnabled()) {
+            this.snapshotStore = new SnapshotBackedItemStore(storage.createStore(partitions.count()));
+            this.store = snapshotStore;
+        } else {
+            this.snapshotStore = null;
+            this.store = storage.createStore(partitions.count());
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 저장된 스냅샷 + 로그를 다시 적용해 이전 상태를 복구하고 기록을 시작함.
+     * 다른 빈이 ItemRepository 를 사용하기 전에 호출됨.
+     * 스냅샷은 map 만 하므로 로그 적용이 끝나면 바로 조회 가능하고,
+     * 스냅샷 Item 은 item-snapshot-loader 스레드가 메모리 저장소와 인덱스로 옮김.
+     * follower 이면 leader 변경을 받는 item-replica-follower 스레드를 시작함.
+     */
+    @PostConstruct
+    public void open() {
+        if (persistence.isEnabled()) {
+            try {
+                // 스냅샷에는 이 노드의 Item 만 기록함. | stream() 은 파티션 사용 시 모든 노드의 Item 을 합침.
+                journal = FileItemJournal.open(persistence, this::attachSnapshot, this::restore, () -> store.streamFrom(0L));
+            } catch (IOException e) {
+                throw new UncheckedIOException("item journal 복구 실패. dir=" + persistence.getDir(), e);
+            }
+        }
+        if (replication.getRole() == Role.FOLLOWER) {
+            follower = ItemReplicaFollower.start(replication, this::applyReplicated, this::clearStore);
+        }
+    }
+
+    private void attachSnapshot(MappedItemSnapshot snapshot) {
+        snapshotStore.attach(snapshot);
+        sequence.accumulateAndGet(partitions.toSequence(snapshot.lastId()), Math::max);
+        Thread loader = new Thread(() -> hydrate(snapshot), "item-snapshot-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 스냅샷 Item 을 메모리 저장소로 옮기고 인덱스에 추가함. | 같은 id 의 수정과 겹치지 않도록 id lock 안에서 처리함.
+    // 재고 집계에는 스냅샷 값을 그대로 더함. | 이후 바뀐 Item 은 restore / update 가 스냅샷 값과의 차이를 이미 더했으므로 합계가 맞음.
+    // hydrate=false 이면 재고 집계만 함.
+    private void hydrate(MappedItemSnapshot snapshot) {
+        long startNanos = System.nanoTime();
+        snapshot.streamFrom(0L).forEach(item -> {
+            inventory.add(item);
+            if (!persistence.isHydrate()) {
+                return;
+            }
+            ReentrantLock lock = lockFor(item.getId());
+            lock.lock();
+            try {
+                index.add(snapshotStore.hydrate(item));
+            } finally {
+                lock.unlock();
+            }
+        });
+        if (!persistence.isHydrate()) {
+            return;
+        }
+        snapshotStore.detach();
+        log.info("item snapshot loaded. file={} items={} elapsedMs={}",
+                snapshot.path(), snapshot.count(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    // 스냅샷을 메모리로 옮기는 중인지 여부 | 이 동안은 인덱스가 완전하지 않음.
+    public boolean isWarmingUp() {
+        return snapshotStore != null && snapshotStore.isWarming();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (follower != null) {
+            follower.close();
+        }
+        journal.close();
+        partitions.close();
+    }
+
+    // 파티션 사용 시 item.partition.nodes 에서 이 노드의 위치, 미사용 시 0
+    public int nodeIndex() {
+        return partitions.self();
+    }
+
+    // 다른 노드가 있으면 true | id 조회 / 목록 / 검색이 다른 노드를 호출할 수 있음.
+    public boolean isPartitioned() {
+        return partitions.isPartitioned();
+    }
+
+    // id 를 이 노드가 맡는지 여부 | 파티션 미사용이면 항상 true
+    public boolean isLocal(long id) {
+        return partitions.isLocal(id);
+    }
+
+    /**
+     * 저장 후 설정된 sync 정책만큼 기록이 끝나면 반환함.
+     * sync=always 가 아니면 기록 완료를 기다리지 않음.
+     * 파티션 사용 시 이 노드가 맡은 파티션의 id 로 이 노드에 저장함.
+     * 저장 직후 같은 id 의 update 가 먼저 기록되지 않도록 로그 / 변경 알림 기록까지 id lock 안에서 처리함. | 기록 완료는 lock 밖에서 기다림.
+     */
+    public ItemValue save(Item item) {
+        long startNanos = System.nanoTime();
+        try {
+            checkWritable();
+            ItemValue savedItem = ItemValue.of(partitions.toId(sequence.incrementAndGet()), item, 1L, System.currentTimeMillis());
+            CompletableFuture<Void> logged;
+            ReentrantLock lock = lockFor(savedItem.getId());
+            lock.lock();
+            try {
+                store.put(savedItem);
+                index.add(savedItem);
+                inventory.add(savedItem);
+                modified(savedItem);
+                changeLog.append(changeSequence -> new ItemChange(changeSequence, System.currentTimeMillis(), List.of(savedItem)));
+                changeEvents.append(changeSequence -> ItemChangeEvent.of(changeSequence, null, savedItem));
+                logged = journal.append(savedItem);
+            } finally {
+                lock.unlock();
+            }
+            logged.join();
+            return savedItem;
+        } finally {
+            ItemRepositoryMetrics.record(metrics.save, startNanos);
+        }
+    }
+
+    /**
+     * 여러 Item 을 한 번에 저장함.
+     * id 는 sequence 에서 한 번에 할당하고, 로그도 한 묶음으로 한 번만 기록함.
+     * save 와 같이 새 id 들의 lock 안에서 로그까지 기록함.
+     */
+    public List<ItemValue> saveAll(List<Item> items) {
+        long startNanos = System.nanoTime();
+        try {
+            checkWritable();
+            if (items.isEmpty()) {
+                return List.of();
+            }
+            long firstSequence = sequence.getAndAdd(items.size()) + 1;
+            long now = System.currentTimeMillis();
+            List<ItemValue> savedItems = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                savedItems.add(ItemValue.of(partitions.toId(firstSequence + i), items.get(i), 1L, now));
+            }
+            CompletableFuture<Void> logged;
+            List<ReentrantLock> batchLocks = locksFor(savedItems.stream().mapToLong(ItemValue::getId));
+            batchLocks.forEach(ReentrantLock::lock);
+            try {
+                for (ItemValue savedItem : savedItems) {
+                    store.put(savedItem);
+                    index.add(savedItem);
+                    inventory.add(savedItem);
+                    modified(savedItem);
+                    changeEvents.append(changeSequence -> ItemChangeEvent.of(changeSequence, null, savedItem));
+                }
+                changeLog.append(changeSequence -> new ItemChange(changeSequence, now, savedItems));
+                logged = journal.append(savedItems);
+            } finally {
+                batchLocks.forEach(ReentrantLock::unlock);
+            }
+            logged.join();
+            return savedItems;
+        } finally {
+            ItemRepositoryMetrics.record(metrics.saveAll, startNanos);
+        }
+    }
+
+    public ItemValue findById(Long id) {
+        long startNanos = System.nanoTime();
+        try {
+            if (id != null && !partitions.isLocal(id)) {
+                return partitions.node(partitions.nodeOf(id)).findById(id);
+            }
+            return id == null ? null : cache.get(id, store::get);
+        } finally {
+            ItemRepositoryMetrics.record(metrics.findById, startNanos);
+        }
+    }
+
+    public ItemCacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 저장소 상태 요약 | 파티션 사용 시 모든 노드의 값을 합침.
+     * 목록 화면 ETag 는 이 값으로 만들어야 다른 노드의 변경도 반영됨.
+     */
+    public ItemStats stats() {
+        if (!partitions.isPartitioned()) {
+            return localStats();
+        }
+        return partitions.gather(ItemNode::stats, this::localStats).stream()
+                .reduce(ItemStats::merge)
+                .orElseThrow();
+    }
+
+    // 이 노드의 상태 요약
+    public ItemStats localStats() {
+        return new ItemStats(store.size(), modificationCount.get(), lastModified.get(), epoch);
+    }
+
+    /**
+     * 재고 집계 | 저장 / 수정 시 반영해 둔 값을 읽기만 하므로 Item 수와 관계없이 일정한 시간에 반환함.
+     * 파티션 사용 시 모든 노드의 값을 합침. 파일 저장 사용 시 스냅샷 Item 은 item-snapshot-loader 가 읽는 동안 차례로 더해짐.
+     */
+    public ItemInventoryStats inventory() {
+        if (!partitions.isPartitioned()) {
+            return localInventory();
+        }
+        return partitions.gather(ItemNode::inventory, this::localInventory).stream()
+                .reduce(ItemInventoryStats::merge)
+                .orElseThrow();
+    }
+
+    // 이 노드의 재고 집계
+    public ItemInventoryStats localInventory() {
+        return inventory.stats();
+    }
+
+    // 이 노드의 save / update 마다 1 증가 | epoch 와 함께 사용해야 재시작 전후를 구분할 수 있음.
+    public long modificationCount() {
+        return modificationCount.get();
+    }
+
+    // 이 노드의 마지막 save / update 시각 (epoch millis)
+    public long lastModified() {
+        return lastModified.get();
+    }
+
+    // ItemRepository 생성 시각 (epoch millis)
+    public long epoch() {
+        return epoch;
+    }
+
+    public List<ItemValue> findAll() {
+        long startNanos = System.nanoTime();
+        try {
+            return partitions.isPartitioned() ? stream().toList() : store.values();
+        } finally {
+            ItemRepositoryMetrics.record(metrics.findAll, startNanos);
+        }
+    }
+
+    public long count() {
+        return partitions.isPartitioned() ? stats().count() : store.size();
+    }
+
+    /**
+     * keyset 페이지 조회 | cursor 보다 큰 id 를 id 오름차순으로 size 개 조회함.
+     * 전체를 복사하지 않고 size + 1 개만 읽어 다음 페이지 존재 여부를 판단함.
+     * 파티션 사용 시 노드마다 size + 1 개씩 받아 id 순으로 합침.
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     */
+    public ItemPage findPage(Long cursor, int size) {
+        long startNanos = System.nanoTime();
+        try {
+            int pageSize = pageSize(size);
+            long from = cursor == null ? 0L : cursor;
+            List<ItemValue> items = partitions.isPartitioned()
+                    ? gatherPage(from, pageSize + 1)
+                    : store.streamFrom(from)
+                        .limit(pageSize + 1L)
+                        .collect(Collectors.toCollection(ArrayList::new));
+
+            Long nextCursor = null;
+            if (items.size() > pageSize) {
+                items.remove(pageSize);
+                nextCursor = items.get(pageSize - 1).getId();
+            }
+            return new ItemPage(items, pageSize, nextCursor);
+        } finally {
+            ItemRepositoryMetrics.record(metrics.findPage, startNanos);
+        }
+    }
+
+    /**
+     * offset 페이지 조회 | page 는 0 부터 시작.
+     * 앞 페이지를 건너뛰는 비용이 있으므로 목록 화면은 findPage(cursor, size) 사용.
+     */
+    public List<ItemValue> findAll(int page, int size) {
+        int pageSize = pageSize(size);
+        return stream()
+                .skip((long) Math.max(page, 0) * pageSize)
+                .limit(pageSize)
+                .toList();
+    }
+
+    // 전체 Item 을 id 오름차순으로 지연 조회함. | 목록 복사 없이 필요한 만큼만 읽음.
+    // 파티션 사용 시 모든 노드에서 GATHER_BATCH 개씩 받아 합친 묶음을 차례로 읽음.
+    public Stream<ItemValue> stream() {
+        if (!partitions.isPartitioned()) {
+            return store.streamFrom(0L);
+        }
+        return Stream.iterate(gatherPage(0L, GATHER_BATCH),
+                        batch -> !batch.isEmpty(),
+                        batch -> batch.size() < GATHER_BATCH ? List.of() : gatherPage(batch.getLast().getId(), GATHER_BATCH))
+                .flatMap(List::stream);
+    }
+
+    // 이 노드에서 cursor 보다 큰 id 를 id 오름차순으로 최대 limit 개 | 다른 노드의 findPage / stream 에서 호출함.
+    public List<ItemValue> findLocalPage(long cursor, int limit) {
+        return store.streamFrom(cursor).limit(limit).toList();
+    }
+
+    // 모든 노드의 cursor 다음 limit 개를 합쳐 id 순서로 앞에서 limit 개
+    private List<ItemValue> gatherPage(long cursor, int limit) {
+        return partitions.gather(node -> node.page(cursor, limit), () -> findLocalPage(cursor, limit)).stream()
+                .flatMap(List::stream)
+                .sorted(ID_ORDER)
+                .limit(limit)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * 보조 인덱스를 사용한 검색 | 최대 limit 개.
+     * 이름 접두어가 있으면 이름 인덱스, 가격 범위만 있으면 가격 인덱스를 탐색하고 나머지 조건은 걸러냄.
+     * 인덱스 후보는 저장소의 현재 값으로 다시 확인하므로 수정 중인 Item 이 잘못 섞이지 않음.
+     * 인덱스를 사용하지 않거나 스냅샷을 메모리로 옮기는 중에는 전체를 순회함. | 결과 순서는 인덱스 검색과 같음.
+     * 파티션 사용 시 노드마다 limit 개씩 검색해 인덱스 순서 (이름 / 가격, 같으면 id) 로 합침.
+     */
+    public List<ItemValue> search(ItemSearchCond cond, int limit) {
+        long startNanos = System.nanoTime();
+        try {
+            if (!partitions.isPartitioned()) {
+                return searchLocal(cond, limit);
+            }
+            return partitions.gather(node -> node.search(cond, limit), () -> searchLocal(cond, limit)).stream()
+                    .flatMap(List::stream)
+                    .sorted(searchOrder(cond))
+                    .limit(pageSize(limit))
+                    .toList();
+        } finally {
+            ItemRepositoryMetrics.record(metrics.search, startNanos);
+        }
+    }
+
+    // 이 노드의 Item 만 검색함.
+    public List<ItemValue> searchLocal(ItemSearchCond cond, int limit) {
+        if (!index.isEnabled() || isWarmingUp()) {
+            return scan(cond, limit);
+        }
+
+        Stream<Long> ids;
+        if (cond.hasNamePrefix()) {
+            ids = index.idsByNamePrefix(cond.getNamePrefix());
+        } else if (cond.hasPriceRange()) {
+            ids = index.idsByPriceRange(cond.getMinPrice(), cond.getMaxPrice());
+        } else {
+            return store.streamFrom(0L).limit(pageSize(limit)).toList();
+        }
+
+        return ids.map(store::get)
+                .filter(item -> item != null && cond.matches(item))
+                .limit(pageSize(limit))
+                .toList();
+    }
+
+    // 인덱스 없이 전체를 순회함. | searchOrder 로 앞선 limit 개만 heap 에 남기므로 조건에 맞는 Item 이 많아도 limit 개만 보관함.
+    private List<ItemValue> scan(ItemSearchCond cond, int limit) {
+        int size = pageSize(limit);
+        Stream<ItemValue> matches = store.streamFrom(0L).filter(cond::matches);
+        if (!cond.hasNamePrefix() && !cond.hasPriceRange()) {
+            return matches.limit(size).toList();
+        }
+        Comparator<ItemValue> order = searchOrder(cond);
+        PriorityQueue<ItemValue> first = new PriorityQueue<>(size + 1, order.reversed());
+        matches.forEach(item -> {
+            first.add(item);
+            if (first.size() > size) {
+                first.poll();
+            }
+        });
+        List<ItemValue> items = new ArrayList<>(first);
+        items.sort(order);
+        return items;
+    }
+
+    // searchLocal 결과의 순서 | 이름 접두어면 이름 인덱스, 가격 범위면 가격 인덱스, 아니면 id 순서
+    private static Comparator<ItemValue> searchOrder(ItemSearchCond cond) {
+        if (cond.hasNamePrefix()) {
+            return Comparator.comparing(ItemValue::getItemName).thenComparing(ID_ORDER);
+        }
+        if (cond.hasPriceRange()) {
+            return Comparator.comparing(ItemValue::getPrice).thenComparing(ID_ORDER);
+        }
+        return ID_ORDER;
+    }
+
+    /**
+     * 저장된 ItemValue 를 직접 수정하지 않고 새 ItemValue 로 교체함.
+     * 같은 id 의 수정은 lock 으로 직렬화되므로 동시 수정이 서로 섞이지 않고,
+     * 조회하는 쪽은 lock 없이 수정 전 또는 수정 후의 Item 중 하나만 보게 됨.
+     *
+     * updateParam 에 version 이 있으면 저장된 version 과 같을 때만 교체함. | 낙관적 동시성 제어
+     * lock 은 비교 + 교체 동안만 잡으므로, 사용자가 수정 화면을 보는 동안 다른 수정을 막지 않음.
+     * 파티션 사용 시 다른 노드의 id 는 그 노드에서 같은 방식으로 수정함.
+     * @return 수정 여부, 없는 id 이거나 version 이 다르면 false
+     */
+    public boolean update(Long itemId, Item updateParam) {
+        long startNanos = System.nanoTime();
+        try {
+            checkWritable();
+            if (itemId != null && !partitions.isLocal(itemId)) {
+                return partitions.node(partitions.nodeOf(itemId)).update(itemId, updateParam);
+            }
+            return !updateLocal(itemId, updateParam).hasFailures();
+        } finally {
+            ItemRepositoryMetrics.record(metrics.update, startNanos);
+        }
+    }
+
+    /**
+     * update 와 같지만 수정한 값을 함께 돌려줌. | 수정 후 다시 조회하지 않아도 되고, 없는 id 와 version 충돌을 구분할 수 있음.
+     * 파티션 사용 시 다른 노드의 id 는 그 노드의 updateAll 로 수정함.
+     * @return 위치 0 하나만 있는 결과
+     */
+    public ItemUpdateResult updateAndGet(Long itemId, Item updateParam) {
+        long startNanos = System.nanoTime();
+        try {
+            checkWritable();
+            if (itemId != null && !partitions.isLocal(itemId)) {
+                Item nodeParam = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+                nodeParam.setId(itemId);
+                nodeParam.setVersion(updateParam.getVersion());
+                return partitions.node(partitions.nodeOf(itemId)).updateAll(List.of(nodeParam), false);
+            }
+            return updateLocal(itemId, updateParam);
+        } finally {
+            ItemRepositoryMetrics.record(metrics.update, startNanos);
+        }
+    }
+
+    private ItemUpdateResult updateLocal(Long itemId, Item updateParam) {
+        CompletableFuture<Void> logged;
+        ItemValue updatedItem;
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            ItemValue findItem = store.get(itemId);
+            if (findItem == null) {
+                return new ItemUpdateResult(Collections.singletonList(null), List.of(0), List.of());
+            }
+            if (isConflict(findItem, updateParam)) {
+                return new ItemUpdateResult(Collections.singletonList(null), List.of(), List.of(0));
+            }
+            updatedItem = replace(findItem, updateParam);
+            changeLog.append(changeSequence -> new ItemChange(changeSequence, System.currentTimeMillis(), List.of(updatedItem)));
+            changeEvents.append(changeSequence -> ItemChangeEvent.of(changeSequence, findItem, updatedItem));
+            logged = journal.append(updatedItem);
+        } finally {
+            lock.unlock();
+        }
+        // 기록 대기는 lock 밖에서 | 같은 lock 을 쓰는 다른 수정이 fsync 를 기다리지 않도록 함.
+        logged.join();
+        return new ItemUpdateResult(List.of(updatedItem), List.of(), List.of());
+    }
+
+    /**
+     * 여러 Item 을 한 번에 수정함. | updateParam 의 id 로 찾아 교체하며 version 확인은 update 와 같음.
+     * 필요한 id lock 을 순서대로 한 번씩만 잡고 모두 교체한 뒤, 로그도 한 묶음으로 기록함.
+     * 파티션 사용 시 담당 노드별로 나눠 수정하며, allOrNothing 은 노드 단위로 적용됨.
+     * @param allOrNothing true 이면 하나라도 없거나 version 이 다를 때 아무것도 수정하지 않음.
+     */
+    public ItemUpdateResult updateAll(List<Item> updateParams, boolean allOrNothing) {
+        long startNanos = System.nanoTime();
+        try {
+            checkWritable();
+            return partitions.isPartitioned()
+                    ? updateAllByNode(updateParams, allOrNothing)
+                    : updateAllLocal(updateParams, allOrNothing);
+        } finally {
+            ItemRepositoryMetrics.record(metrics.updateAll, startNanos);
+        }
+    }
+
+    // updateParams 를 담당 노드별로 나눠 수정하고, 결과 위치를 요청 위치로 되돌림. | id 가 없으면 이 노드에서 notFound 로 처리함.
+    private ItemUpdateResult updateAllByNode(List<Item> updateParams, boolean allOrNothing) {
+        Map<Integer, List<Integer>> positionsByNode = new TreeMap<>();
+        for (int i = 0; i < updateParams.size(); i++) {
+            Long id = updateParams.get(i).getId();
+            int node = id == null ? partitions.self() : partitions.nodeOf(id);
+            positionsByNode.computeIfAbsent(node, n -> new ArrayList<>()).add(i);
+        }
+
+        List<ItemValue> updatedItems = new ArrayList<>(Collections.nCopies(updateParams.size(), null));
+        List<Integer> notFound = new ArrayList<>();
+        List<Integer> conflicts = new ArrayList<>();
+        positionsByNode.forEach((node, positions) -> {
+            List<Item> nodeParams = positions.stream().map(updateParams::get).toList();
+            ItemUpdateResult result = node == partitions.self()
+                    ? updateAllLocal(nodeParams, allOrNothing)
+                    : partitions.node(node).updateAll(nodeParams, allOrNothing);
+            for (int i = 0; i < positions.size(); i++) {
+                updatedItems.set(positions.get(i), result.items().get(i));
+            }
+            result.notFound().forEach(i -> notFound.add(positions.get(i)));
+            result.conflicts().forEach(i -> conflicts.add(positions.get(i)));
+        });
+        Collections.sort(notFound);
+        Collections.sort(conflicts);
+        return new ItemUpdateResult(updatedItems, notFound, conflicts);
+    }
+
+    private ItemUpdateResult updateAllLocal(List<Item> updateParams, boolean allOrNothing) {
+        List<ItemValue> updatedItems = new ArrayList<>(Collections.nCopies(updateParams.size(), null));
+        List<Integer> notFound = new ArrayList<>();
+        List<Integer> conflicts = new ArrayList<>();
+        List<ReentrantLock> batchLocks = locksFor(updateParams.stream()
+                .map(Item::getId)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue));
+        CompletableFuture<Void> logged = ItemJournal.COMPLETED;
+        batchLocks.forEach(ReentrantLock::lock);
+        try {
+            // 같은 id 가 여러 번 있으면 앞의 수정 결과를 기준으로 확인함.
+            Map<Long, ItemValue> current = new HashMap<>();
+            for (int i = 0; i < updateParams.size(); i++) {
+                Item updateParam = updateParams.get(i);
+                ItemValue findItem = updateParam.getId() == null ? null
+                        : current.computeIfAbsent(updateParam.getId(), store::get);
+                if (findItem == null) {
+                    notFound.add(i);
+                } else if (isConflict(findItem, updateParam)) {
+                    conflicts.add(i);
+                } else {
+                    ItemValue updatedItem = ItemValue.of(findItem.getId(), updateParam, nextVersion(findItem), 0L);
+                    updatedItems.set(i, updatedItem);
+                    current.put(findItem.getId(), updatedItem);
+                }
+            }
+
+            if (allOrNothing && (!notFound.isEmpty() || !conflicts.isEmpty())) {
+                Collections.fill(updatedItems, null);
+            } else {
+                List<ItemValue> changed = new ArrayList<>(updatedItems.size());
+                for (int i = 0; i < updatedItems.size(); i++) {
+                    if (updatedItems.get(i) != null) {
+                        ItemValue before = store.get(updatedItems.get(i).getId());
+                        ItemValue updatedItem = replace(before, updateParams.get(i));
+                        updatedItems.set(i, updatedItem);
+                        changed.add(updatedItem);
+                        changeEvents.append(changeSequence -> ItemChangeEvent.of(changeSequence, before, updatedItem));
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    changeLog.append(changeSequence -> new ItemChange(changeSequence, System.currentTimeMillis(), changed));
+                    logged = journal.append(changed);
+                }
+            }
+        } finally {
+            batchLocks.forEach(ReentrantLock::unlock);
+        }
+        logged.join();
+        return new ItemUpdateResult(updatedItems, notFound, conflicts);
+    }
+
+    // follower 이면 true | 조회만 처리하고 쓰기는 leader 로 보내야 함.
+    public boolean isReplica() {
+        return replication.getRole() == Role.FOLLOWER;
+    }
+
+    /**
+     * leader | follower 가 after 다음부터 받을 변경. 새 변경이 없으면 wait 동안 기다림.
+     * epoch 가 다르거나 after 다음 변경이 이미 로그에서 지워졌으면 reset 을 응답하며,
+     * follower 는 findLocalPage 로 전체 Item 을 받은 뒤 응답의 lastSequence 부터 이어서 요청함.
+     * lastSequence 는 전체 Item 을 읽기 전에 정해지므로 그 사이의 변경은 로그로 다시 받음.
+     */
+    public ItemReplicationBatch changesAfter(long epoch, long after, int max, Duration wait) throws InterruptedException {
+        if (replication.getRole() != Role.LEADER) {
+            throw new IllegalStateException("leader 가 아님. role=" + replication.getRole());
+        }
+        if (epoch == this.epoch) {
+            List<ItemChange> changes = changeLog.awaitAfter(after, max, wait);
+            if (changes != null) {
+                return new ItemReplicationBatch(this.epoch, false, changeLog.lastSequence(), changes);
+            }
+        }
+        return new ItemReplicationBatch(this.epoch, true, changeLog.lastSequence(), List.of());
+    }
+
+    // leader 의 마지막 변경 번호 | read-your-writes 쿠키 값
+    public long lastChangeSequence() {
+        return changeLog.lastSequence();
+    }
+
+    /**
+     * follower | leader 의 epoch / sequence 변경이 반영될 때까지 최대 timeout 동안 기다림.
+     * @return 반영되었으면 true, follower 가 아니면 바로 true
+     */
+    public boolean awaitReplicated(long epoch, long sequence, Duration timeout) throws InterruptedException {
+        return follower == null || follower.await(epoch, sequence, timeout);
+    }
+
+    /**
+     * after 다음부터의 변경 알림. 새 변경이 없으면 wait 동안 기다림.
+     * epoch 가 다르거나 after 다음 변경이 이미 로그에서 지워졌으면 reset 을 응답하며,
+     * 받는 쪽은 전체 목록을 다시 읽은 뒤 응답의 lastSequence 부터 이어서 요청함.
+     * follower 는 leader 에서 받아 반영한 변경을 자신의 번호로 남김.
+     */
+    public ItemChangeEvents changeEventsAfter(long epoch, long after, int max, Duration wait) throws InterruptedException {
+        if (!changeEvents.isEnabled()) {
+            throw new IllegalStateException("item.feed.enabled=false");
+        }
+        if (epoch == this.epoch) {
+            List<ItemChangeEvent> events = changeEvents.awaitAfter(after, max, wait);
+            if (events != null) {
+                return new ItemChangeEvents(this.epoch, false, changeEvents.lastSequence(), events);
+            }
+        }
+        return new ItemChangeEvents(this.epoch, true, changeEvents.lastSequence(), List.of());
+    }
+
+    // 마지막 변경 알림 번호 | 처음 구독하면 이 다음 변경부터 받음.
+    public long lastChangeEventSequence() {
+        return changeEvents.lastSequence();
+    }
+
+    public ItemReplicationStatus replicationStatus() {
+        return switch (replication.getRole()) {
+            case NONE -> ItemReplicationStatus.NONE;
+            case LEADER -> ItemReplicationStatus.leader(changeLog.lastSequence());
+            case FOLLOWER -> follower == null ? ItemReplicationStatus.NONE : follower.status();
+        };
+    }
+
+    private void checkWritable() {
+        if (isReplica()) {
+            throw new IllegalStateException("follower 는 쓰기를 처리하지 않음. leader=" + replication.getLeader());
+        }
+    }
+
+    private static boolean isConflict(ItemValue findItem, Item updateParam) {
+        return updateParam.getVersion() != null && !updateParam.getVersion().equals(findItem.getVersion());
+    }
+
+    private static long nextVersion(ItemValue item) {
+        return versionOf(item) + 1;
+    }
+
+    private static long versionOf(ItemValue item) {
+        return item.getVersion() == null ? 0L : item.getVersion();
+    }
+
+    // id lock 안에서 호출 | findItem 을 updateParam 값으로 교체한 ItemValue
+    private ItemValue replace(ItemValue findItem, Item updateParam) {
+        long itemId = findItem.getId();
+        ItemValue updatedItem = store.update(itemId,
+                item -> ItemValue.of(itemId, updateParam, nextVersion(item), System.currentTimeMillis()));
+        index.replace(findItem, updatedItem);
+        inventory.replace(findItem, updatedItem);
+        cache.invalidate(itemId);
+        modified(updatedItem);
+        return updatedItem;
+    }
+
+    // 복구 시 기록된 Item 값을 그대로 반영함.
+    // item-snapshot-loader 와 동시에 실행되므로 id lock 안에서 처리함. | 스냅샷 값이 로그 값을 덮어쓰지 않도록 함.
+    // 저장된 값보다 version 이 낮은 기록은 건너뜀. | 이전 버전에서 save 기록이 같은 id 의 update 보다 늦게 남은 로그도 최신 값으로 복구됨.
+    private void restore(ItemValue item) {
+        ReentrantLock lock = lockFor(item.getId());
+        lock.lock();
+        try {
+            ItemValue before = store.get(item.getId());
+            if (before != null && versionOf(item) < versionOf(before)) {
+                return;
+            }
+            store.put(item);
+            if (before == null) {
+                index.add(item);
+            } else {
+                index.replace(before, item);
+            }
+            inventory.replace(before, item);
+        } finally {
+            lock.unlock();
+        }
+        sequence.accumulateAndGet(partitions.toSequence(item.getId()), Math::max);
+        if (item.getLastModified() != null) {
+            lastModified.accumulateAndGet(item.getLastModified(), Math::max);
+        }
+    }
+
+    // follower 가 leader 에서 받은 Item 값을 반영함.
+    // 전체 Item 을 받은 뒤 이어 받는 로그에는 이미 반영한 변경이 다시 올 수 있으므로 저장된 값보다 version 이 낮으면 건너뜀.
+    private void applyReplicated(List<ItemValue> items) {
+        for (ItemValue item : items) {
+            ReentrantLock lock = lockFor(item.getId());
+            lock.lock();
+            try {
+                ItemValue before = store.get(item.getId());
+                if (before != null && versionOf(item) < versionOf(before)) {
+                    continue;
+                }
+                store.put(item);
+                if (before == null) {
+                    index.add(item);
+                } else {
+                    index.replace(before, item);
+                }
+                inventory.replace(before, item);
+                cache.invalidate(item.getId());
+                modified(item);
+                changeEvents.append(changeSequence -> ItemChangeEvent.of(changeSequence, before, item));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void modified(ItemValue item) {
+        modificationCount.incrementAndGet();
+        lastModified.accumulateAndGet(item.getLastModified(), Math::max);
     }
 
-    public Item findById(Long id) {
-        return store.get(id);
+    private ReentrantLock lockFor(long id) {
+        return locks[Long.hashCode(id) & (LOCK_STRIPES - 1)];
     }
 
-    public List<Item> findAll() {
-        return new ArrayList<>(store.values());
+    // ids 가 사용하는 lock 목록 | 교착을 피하기 위해 항상 같은 순서로 반환함.
+    private List<ReentrantLock> locksFor(LongStream ids) {
+        boolean[] used = new boolean[LOCK_STRIPES];
+        ids.forEach(id -> used[Long.hashCode(id) & (LOCK_STRIPES - 1)] = true);
+        List<ReentrantLock> batchLocks = new ArrayList<>();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            if (used[i]) {
+                batchLocks.add(locks[i]);
+            }
+        }
+        return batchLocks;
     }
 
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 
     public void clearStore(){
         store.clear();
+        index.clear();
+        inventory.clear();
+        cache.invalidateAll();
+        modificationCount.incrementAndGet();
+        lastModified.accumulateAndGet(System.currentTimeMillis(), Math::max);
     }
 
 }
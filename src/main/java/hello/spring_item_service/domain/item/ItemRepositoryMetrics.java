@@ -0,0 +1,48 @@
+package hello.spring_item_service.domain.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemRepository 작업별 Timer. | item.repository{operation=save, findById ...}
+ * 기동 시 한 번만 등록해 두고 작업마다 걸린 시간만 기록함. | 요청마다 이름 / 태그를 만들지 않음.
+ */
+final class ItemRepositoryMetrics {
+
+    // 지표를 수집하지 않을 때 | 하위 registry 가 없는 CompositeMeterRegistry 의 Timer 는 아무것도 기록하지 않음.
+    static final ItemRepositoryMetrics NONE = new ItemRepositoryMetrics(new CompositeMeterRegistry());
+
+    final Timer save;
+    final Timer saveAll;
+    final Timer findById;
+    final Timer findAll;
+    final Timer findPage;
+    final Timer search;
+    final Timer update;
+    final Timer updateAll;
+
+    ItemRepositoryMetrics(MeterRegistry registry) {
+        this.save = timer(registry, "save");
+        this.saveAll = timer(registry, "saveAll");
+        this.findById = timer(registry, "findById");
+        this.findAll = timer(registry, "findAll");
+        this.findPage = timer(registry, "findPage");
+        this.search = timer(registry, "search");
+        this.update = timer(registry, "update");
+        this.updateAll = timer(registry, "updateAll");
+    }
+
+    static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("item.repository")
+                .description("ItemRepository 작업 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Data;
+import org.springframework.util.StringUtils;
+
+// 상품 검색 조건 | 값이 없는 조건은 적용하지 않음.
+@Data
+public class ItemSearchCond {
+
+    private String namePrefix;
+    private Integer minPrice;
+    private Integer maxPrice;
+
+    public boolean hasNamePrefix() {
+        return StringUtils.hasLength(namePrefix);
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean matches(ItemValue item) {
+        if (hasNamePrefix() && (item.getItemName() == null || !item.getItemName().startsWith(namePrefix))) {
+            return false;
+        }
+        if (hasPriceRange()) {
+            if (item.getPrice() == null) {
+                return false;
+            }
+            if (minPrice != null && item.getPrice() < minPrice) {
+                return false;
+            }
+            if (maxPrice != null && item.getPrice() > maxPrice) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
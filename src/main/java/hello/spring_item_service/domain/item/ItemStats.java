@@ -0,0 +1,19 @@
+package hello.spring_item_service.domain.item;
+
+/**
+ * ItemRepository 상태 요약. | 목록 화면 ETag / Last-Modified, 파티션 노드 간 count 합산용
+ * @param count             저장된 Item 수
+ * @param modificationCount save / update 횟수
+ * @param lastModified      마지막 save / update 시각 (epoch millis)
+ * @param epoch             ItemRepository 생성 시각 (epoch millis) | 재시작 전후의 modificationCount 를 구분함.
+ */
+public record ItemStats(long count, long modificationCount, long lastModified, long epoch) {
+
+    // 두 노드의 값을 합침. | epoch 는 노드 순서대로 섞으므로 어느 노드가 재시작해도 바뀜.
+    ItemStats merge(ItemStats other) {
+        return new ItemStats(count + other.count,
+                modificationCount + other.modificationCount,
+                Math.max(lastModified, other.lastModified),
+                31 * epoch + other.epoch);
+    }
+}
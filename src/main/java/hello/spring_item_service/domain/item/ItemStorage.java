@@ -0,0 +1,29 @@
+package hello.spring_item_service.domain.item;
+
+/**
+ * ItemRepository 저장 방식 선택.
+ * application.properties 의 item.repository.storage 값으로 지정함. (heap | columnar)
+ */
+public enum ItemStorage {
+
+    // Item 객체를 그대로 Map 에 보관. 기본값.
+    HEAP {
+        @Override
+        ItemStore createStore(int stride) {
+            return new HeapItemStore();
+        }
+    },
+
+    // primitive 컬럼 배열에 보관. 대용량 카탈로그에서 GC 부담을 줄이기 위해 사용.
+    COLUMNAR {
+        @Override
+        ItemStore createStore(int stride) {
+            return new ColumnarItemStore(stride);
+        }
+    };
+
+    /**
+     * @param stride 파티션 수 | 이 노드의 id 는 stride 간격으로 발급됨. (ItemPartitions 참고)
+     */
+    abstract ItemStore createStore(int stride);
+}
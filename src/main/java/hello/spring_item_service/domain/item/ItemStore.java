@@ -0,0 +1,34 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * ItemRepository 가 실제 데이터를 보관하는 저장 방식.
+ * ID 발급은 ItemRepository 가 담당하고, 저장소는 id 를 키로 Item 을 보관하기만 함.
+ */
+interface ItemStore {
+
+    void put(ItemValue item);
+
+    ItemValue get(long id);
+
+    /**
+     * id 에 해당하는 Item 이 있으면 updater 결과로 원자적으로 교체함.
+     * @return 교체된 Item, 없으면 null
+     */
+    ItemValue update(long id, UnaryOperator<ItemValue> updater);
+
+    List<ItemValue> values();
+
+    /**
+     * afterId 보다 큰 id 의 Item 을 id 오름차순으로 지연 조회함.
+     * 소비한 만큼만 읽으므로 limit 과 함께 사용하면 페이지 크기에 비례하는 비용만 듦.
+     */
+    Stream<ItemValue> streamFrom(long afterId);
+
+    long size();
+
+    void clear();
+}
@@ -0,0 +1,16 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.List;
+
+/**
+ * ItemRepository.updateAll 결과. | 위치(index) 는 요청한 updateParams 기준
+ * @param items     위치별 수정 결과, 반영되지 않은 위치는 null
+ * @param notFound  없는 id 의 위치
+ * @param conflicts version 이 달라 수정하지 않은 위치
+ */
+public record ItemUpdateResult(List<ItemValue> items, List<Integer> notFound, List<Integer> conflicts) {
+
+    public boolean hasFailures() {
+        return !notFound.isEmpty() || !conflicts.isEmpty();
+    }
+}
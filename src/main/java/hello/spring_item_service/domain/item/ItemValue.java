@@ -0,0 +1,25 @@
+package hello.spring_item_service.domain.item;
+
+import lombok.Value;
+
+/**
+ * 저장소에 보관되는 변경 불가능한 Item 값.
+ * ItemRepository 조회 결과를 복사 없이 여러 스레드(템플릿 렌더링 포함)가 공유하고, 수정은 새 값으로 교체함.
+ * 화면 입력 / 폼 바인딩에는 Item 을 사용함.
+ */
+@Value
+public class ItemValue {
+
+    Long id;
+    String itemName;
+    Integer price;
+    Integer quantity;
+    // 저장 / 수정 시 ItemRepository 가 설정함. | version 은 1 부터 수정마다 1 증가, lastModified 는 epoch millis
+    Long version;
+    Long lastModified;
+
+    // 폼 Item 의 입력 값으로 만든 저장용 값
+    static ItemValue of(long id, Item item, long version, long lastModified) {
+        return new ItemValue(id, item.getItemName(), item.getPrice(), item.getQuantity(), version, lastModified);
+    }
+}
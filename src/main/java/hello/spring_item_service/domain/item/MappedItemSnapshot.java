@@ -0,0 +1,244 @@
+package hello.spring_item_service.domain.item;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * FileChannel.map 으로 읽는 고정 구조 스냅샷 파일.
+ * 파일 전체를 읽어 Map 을 만들지 않고, id 인덱스로 필요한 Item 만 바로 읽을 수 있으므로
+ * 카탈로그 크기와 관계없이 파일을 여는 즉시 조회가 가능함.
+ *
+ * 파일 구조
+ * - header : [magic int][version int]
+ * - data   : Item 마다 [flags byte][price int][quantity int][name 길이 int][name UTF-8][version long?][lastModified long?]
+ *            version / lastModified 는 flag 가 있을 때만 기록됨. | 이전 형식 파일도 그대로 읽을 수 있음.
+ * - index  : id 오름차순 [id long][data 위치 long] 고정 16 byte 항목
+ * - footer : [count long][index 위치 long][magic int]
+ */
+final class MappedItemSnapshot {
+
+    private static final int MAGIC = 0x49544D53;
+    private static final int VERSION = 1;
+    private static final int HEADER = Integer.BYTES * 2;
+    private static final int FOOTER = Long.BYTES * 2 + Integer.BYTES;
+    private static final int INDEX_ENTRY = Long.BYTES * 2;
+
+    private static final byte NULL_NAME = 1;
+    private static final byte NULL_PRICE = 1 << 1;
+    private static final byte NULL_QUANTITY = 1 << 2;
+    private static final byte HAS_VERSION = 1 << 3;
+    private static final byte HAS_LAST_MODIFIED = 1 << 4;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int indexOffset;
+    private final long firstId;
+
+    private MappedItemSnapshot(Path path, ByteBuffer buffer, int count, int indexOffset) {
+        this.path = path;
+        this.buffer = buffer;
+        this.count = count;
+        this.indexOffset = indexOffset;
+        this.firstId = count == 0 ? 0 : idAt(0);
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 map 함. | 내용은 필요할 때 OS 가 페이지 단위로 읽음.
+     * MappedByteBuffer 한계로 2GB 를 넘는 파일은 지원하지 않음.
+     */
+    static MappedItemSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER + FOOTER || size > Integer.MAX_VALUE) {
+                throw new IOException("unsupported item snapshot size. file=" + path + " size=" + size);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int footer = (int) size - FOOTER;
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION
+                    || buffer.getInt(footer + Long.BYTES * 2) != MAGIC) {
+                throw new IOException("invalid item snapshot. file=" + path);
+            }
+            long count = buffer.getLong(footer);
+            long indexOffset = buffer.getLong(footer + Long.BYTES);
+            if (count < 0 || indexOffset < HEADER || indexOffset + count * INDEX_ENTRY != footer) {
+                throw new IOException("corrupted item snapshot footer. file=" + path);
+            }
+            return new MappedItemSnapshot(path, buffer, (int) count, (int) indexOffset);
+        }
+    }
+
+    /**
+     * items 를 스냅샷 파일로 기록함. | items 는 id 오름차순이어야 함.
+     * @return 기록한 Item 수
+     */
+    static int write(Path path, Stream<ItemValue> items) throws IOException {
+        long[] ids = new long[1_024];
+        long[] offsets = new long[1_024];
+        int count = 0;
+        long offset = HEADER;
+
+        try (FileOutputStream file = new FileOutputStream(path.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            Iterator<ItemValue> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                ItemValue item = iterator.next();
+                if (count > 0 && item.getId() <= ids[count - 1]) {
+                    throw new IllegalArgumentException("snapshot items must be ordered by id. id=" + item.getId());
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+                ids[count] = item.getId();
+                offsets[count] = offset;
+                count++;
+                offset += writeItem(out, item);
+            }
+
+            for (int i = 0; i < count; i++) {
+                out.writeLong(ids[i]);
+                out.writeLong(offsets[i]);
+            }
+            out.writeLong(count);
+            out.writeLong(offset);
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        }
+        return count;
+    }
+
+    private static int writeItem(DataOutputStream out, ItemValue item) throws IOException {
+        byte[] name = item.getItemName() == null ? new byte[0] : item.getItemName().getBytes(StandardCharsets.UTF_8);
+        byte flags = 0;
+        if (item.getItemName() == null) {
+            flags |= NULL_NAME;
+        }
+        if (item.getPrice() == null) {
+            flags |= NULL_PRICE;
+        }
+        if (item.getQuantity() == null) {
+            flags |= NULL_QUANTITY;
+        }
+        int optional = 0;
+        if (item.getVersion() != null) {
+            flags |= HAS_VERSION;
+            optional += Long.BYTES;
+        }
+        if (item.getLastModified() != null) {
+            flags |= HAS_LAST_MODIFIED;
+            optional += Long.BYTES;
+        }
+        out.writeByte(flags);
+        out.writeInt(item.getPrice() == null ? 0 : item.getPrice());
+        out.writeInt(item.getQuantity() == null ? 0 : item.getQuantity());
+        out.writeInt(name.length);
+        out.write(name);
+        if (item.getVersion() != null) {
+            out.writeLong(item.getVersion());
+        }
+        if (item.getLastModified() != null) {
+            out.writeLong(item.getLastModified());
+        }
+        return 1 + Integer.BYTES * 3 + name.length + optional;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long lastId() {
+        return count == 0 ? 0 : idAt(count - 1);
+    }
+
+    boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    ItemValue get(long id) {
+        int position = indexOf(id);
+        return position < 0 ? null : itemAt(position);
+    }
+
+    // afterId 보다 큰 id 의 Item 을 id 오름차순으로 지연 조회함.
+    Stream<ItemValue> streamFrom(long afterId) {
+        int from = indexOf(afterId);
+        from = from >= 0 ? from + 1 : -(from + 1);
+        return IntStream.range(from, count).mapToObj(this::itemAt);
+    }
+
+    /**
+     * id 의 인덱스 위치. 없으면 (-(삽입 위치) - 1).
+     * id 는 대부분 연속이므로 (id - 첫 id) 위치를 먼저 확인하고, 맞지 않으면 이진 탐색함.
+     */
+    private int indexOf(long id) {
+        long guess = id - firstId;
+        if (guess >= 0 && guess < count && idAt((int) guess) == id) {
+            return (int) guess;
+        }
+
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = idAt(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private long idAt(int position) {
+        return buffer.getLong(indexOffset + position * INDEX_ENTRY);
+    }
+
+    private ItemValue itemAt(int position) {
+        int entry = indexOffset + position * INDEX_ENTRY;
+        long id = buffer.getLong(entry);
+        int offset = (int) buffer.getLong(entry + Long.BYTES);
+
+        byte flags = buffer.get(offset);
+        int price = buffer.getInt(offset + 1);
+        int quantity = buffer.getInt(offset + 1 + Integer.BYTES);
+        byte[] name = new byte[buffer.getInt(offset + 1 + Integer.BYTES * 2)];
+        buffer.get(offset + 1 + Integer.BYTES * 3, name);
+        int optional = offset + 1 + Integer.BYTES * 3 + name.length;
+        Long version = null;
+        if ((flags & HAS_VERSION) != 0) {
+            version = buffer.getLong(optional);
+            optional += Long.BYTES;
+        }
+        Long lastModified = (flags & HAS_LAST_MODIFIED) != 0 ? buffer.getLong(optional) : null;
+
+        return new ItemValue(id,
+                (flags & NULL_NAME) != 0 ? null : new String(name, StandardCharsets.UTF_8),
+                (flags & NULL_PRICE) != 0 ? null : price,
+                (flags & NULL_QUANTITY) != 0 ? null : quantity,
+                version, lastModified);
+    }
+}
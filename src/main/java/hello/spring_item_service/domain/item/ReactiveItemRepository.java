@@ -0,0 +1,81 @@
+package hello.spring_item_service.domain.item;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+/**
+ * ItemRepository 의 non-blocking 창구. | ReactiveItemHandler 에서 사용
+ * - 쓰기 : 파일 기록 대기 (sync=always), 다른 노드 호출이 있을 수 있으므로 item-reactive 가상 스레드에서 실행함.
+ * - 조회 : 메모리 저장소만 읽으면 구독한 스레드에서 바로 실행하고, 파티션 사용 시에는 다른 노드를 호출하므로 쓰기와 같이 실행함.
+ * 목록은 List 로 만들지 않고 stream() 을 요청(request) 받은 만큼만 읽음.
+ */
+@Component
+public class ReactiveItemRepository {
+
+    private final ItemRepository itemRepository;
+    private final Scheduler scheduler = Schedulers.fromExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("item-reactive-", 0).factory()), "item-reactive");
+
+    public ReactiveItemRepository(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    public Mono<ItemValue> findById(long id) {
+        return read(() -> itemRepository.findById(id));
+    }
+
+    // 전체 상품을 id 순서로
+    public Flux<ItemValue> findAll() {
+        Flux<ItemValue> items = Flux.fromStream(itemRepository::stream);
+        return itemRepository.isPartitioned() ? items.subscribeOn(scheduler) : items;
+    }
+
+    public Flux<ItemValue> search(ItemSearchCond cond) {
+        return read(() -> itemRepository.search(cond, ItemRepository.MAX_PAGE_SIZE)).flatMapIterable(items -> items);
+    }
+
+    public Mono<ItemValue> save(Item item) {
+        return write(() -> itemRepository.save(item));
+    }
+
+    public Mono<List<ItemValue>> saveAll(List<Item> items) {
+        return write(() -> itemRepository.saveAll(items));
+    }
+
+    // 수정한 값 | 없는 id 이거나 version 이 다르면 notFound / conflicts 에 위치 0
+    public Mono<ItemUpdateResult> update(long itemId, Item updateParam) {
+        return write(() -> itemRepository.updateAndGet(itemId, updateParam));
+    }
+
+    public Mono<ItemUpdateResult> updateAll(List<Item> updateParams, boolean allOrNothing) {
+        return write(() -> itemRepository.updateAll(updateParams, allOrNothing));
+    }
+
+    // follower 이면 true | 쓰기는 leader 에서만 처리함.
+    public boolean isReplica() {
+        return itemRepository.isReplica();
+    }
+
+    // 결과가 null 이면 빈 Mono
+    private <T> Mono<T> read(Callable<T> call) {
+        Mono<T> result = Mono.fromCallable(call);
+        return itemRepository.isPartitioned() ? result.subscribeOn(scheduler) : result;
+    }
+
+    private <T> Mono<T> write(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+}
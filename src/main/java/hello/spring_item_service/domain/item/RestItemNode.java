@@ -0,0 +1,99 @@
+package hello.spring_item_service.domain.item;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다른 노드의 /internal/items (ItemPartitionController) 를 HTTP + JSON 으로 호출함.
+ * 연결은 HttpClient 가 노드별로 재사용하며, 호출 실패는 RestClientException 으로 그대로 전달함.
+ * 모든 요청에 item.partition.secret 을 SECRET_HEADER 로 담음.
+ *
+ * ItemValue 는 기본 생성자가 없으므로 같은 JSON 필드를 가진 Item 으로 받아 변환함.
+ */
+class RestItemNode implements ItemNode {
+
+    private static final ParameterizedTypeReference<List<Item>> ITEMS = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestClient client;
+
+    RestItemNode(URI node, Duration timeout, String secret) {
+        this.client = restClient(node.resolve("/internal/items"), timeout, timeout).mutate()
+                .defaultHeader(ItemPartitionProperties.SECRET_HEADER, secret)
+                .build();
+    }
+
+    // 다른 노드 호출용 RestClient | 복제 follower 도 사용함.
+    static RestClient restClient(URI baseUrl, Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder()
+                .baseUrl(baseUrl.toString())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public ItemValue findById(long id) {
+        return value(client.get().uri("/{id}", id).retrieve().body(Item.class));
+    }
+
+    @Override
+    public boolean update(long id, Item updateParam) {
+        return Boolean.TRUE.equals(client.put().uri("/{id}", id).body(updateParam).retrieve().body(Boolean.class));
+    }
+
+    @Override
+    public ItemUpdateResult updateAll(List<Item> updateParams, boolean allOrNothing) {
+        UpdateResult result = client.put().uri("?allOrNothing={allOrNothing}", allOrNothing)
+                .body(updateParams).retrieve().body(UpdateResult.class);
+        return new ItemUpdateResult(values(result.items()), result.notFound(), result.conflicts());
+    }
+
+    @Override
+    public List<ItemValue> page(long cursor, int limit) {
+        return values(client.get().uri("/page?cursor={cursor}&limit={limit}", cursor, limit).retrieve().body(ITEMS));
+    }
+
+    @Override
+    public List<ItemValue> search(ItemSearchCond cond, int limit) {
+        return values(client.post().uri("/search?limit={limit}", limit).body(cond).retrieve().body(ITEMS));
+    }
+
+    @Override
+    public ItemStats stats() {
+        return client.get().uri("/stats").retrieve().body(ItemStats.class);
+    }
+
+    @Override
+    public ItemInventoryStats inventory() {
+        return client.get().uri("/inventory").retrieve().body(ItemInventoryStats.class);
+    }
+
+    static ItemValue value(Item item) {
+        return item == null ? null : ItemValue.of(item.getId(), item, item.getVersion(), item.getLastModified());
+    }
+
+    // updateAll 결과는 반영되지 않은 위치가 null 이므로 null 을 그대로 둠.
+    static List<ItemValue> values(List<Item> items) {
+        List<ItemValue> values = new ArrayList<>(items.size());
+        for (Item item : items) {
+            values.add(value(item));
+        }
+        return values;
+    }
+
+    record UpdateResult(List<Item> items, List<Integer> notFound, List<Integer> conflicts) {
+    }
+}
@@ -0,0 +1,167 @@
+package hello.spring_item_service.domain.item;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 기동 직후 map 된 스냅샷을 읽기 계층으로 사용하는 ItemStore.
+ * 조회는 메모리 저장소(hot) 를 먼저 보고 없으면 스냅샷(cold) 에서 읽으며, 쓰기는 항상 hot 에 기록함.
+ * ItemRepository 가 스냅샷 Item 을 hot 으로 모두 옮기면 detach 되어 이후에는 hot 만 사용함.
+ *
+ * 같은 id 의 쓰기는 ItemRepository 의 id lock 안에서만 호출된다고 가정함.
+ */
+class SnapshotBackedItemStore implements ItemStore {
+
+    private final ItemStore hot;
+    private volatile MappedItemSnapshot cold;
+    // cold 가 붙어 있는 동안의 전체 Item 수 | hot 과 overlap 을 따로 읽으면 옮기는 도중의 값이 잠깐 어긋나므로 하나의 값으로 관리함.
+    private final AtomicLong warmingSize = new AtomicLong();
+
+    SnapshotBackedItemStore(ItemStore hot) {
+        this.hot = hot;
+    }
+
+    // hot 이 비어 있을 때 호출 | 기동 시 로그 적용 전
+    void attach(MappedItemSnapshot snapshot) {
+        warmingSize.set(hot.size() + snapshot.count());
+        cold = snapshot;
+    }
+
+    void detach() {
+        cold = null;
+    }
+
+    boolean isWarming() {
+        return cold != null;
+    }
+
+    /**
+     * 스냅샷 Item 을 hot 으로 옮김. | 이미 hot 에 더 최신 값이 있으면 옮기지 않음.
+     * @return 현재 값 (hot 에 있던 값 또는 옮긴 값)
+     */
+    ItemValue hydrate(ItemValue item) {
+        ItemValue current = hot.get(item.getId());
+        if (current != null) {
+            return current;
+        }
+        put(item);
+        return item;
+    }
+
+    @Override
+    public void put(ItemValue item) {
+        MappedItemSnapshot snapshot = cold;
+        boolean added = snapshot != null && hot.get(item.getId()) == null && !snapshot.contains(item.getId());
+        hot.put(item);
+        if (added) {
+            warmingSize.incrementAndGet();
+        }
+    }
+
+    @Override
+    public ItemValue get(long id) {
+        ItemValue item = hot.get(id);
+        if (item != null) {
+            return item;
+        }
+        MappedItemSnapshot snapshot = cold;
+        return snapshot == null ? null : snapshot.get(id);
+    }
+
+    @Override
+    public ItemValue update(long id, UnaryOperator<ItemValue> updater) {
+        ItemValue updatedItem = hot.update(id, updater);
+        if (updatedItem != null) {
+            return updatedItem;
+        }
+        MappedItemSnapshot snapshot = cold;
+        ItemValue coldItem = snapshot == null ? null : snapshot.get(id);
+        if (coldItem == null) {
+            return null;
+        }
+        updatedItem = updater.apply(coldItem);
+        put(updatedItem);
+        return updatedItem;
+    }
+
+    @Override
+    public List<ItemValue> values() {
+        if (cold == null) {
+            return hot.values();
+        }
+        return streamFrom(0L).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Stream<ItemValue> streamFrom(long afterId) {
+        MappedItemSnapshot snapshot = cold;
+        if (snapshot == null) {
+            return hot.streamFrom(afterId);
+        }
+        Iterator<ItemValue> merged = new MergingIterator(hot.streamFrom(afterId).iterator(), snapshot.streamFrom(afterId).iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public long size() {
+        MappedItemSnapshot snapshot = cold;
+        if (snapshot == null) {
+            return hot.size();
+        }
+        return warmingSize.get();
+    }
+
+    @Override
+    public void clear() {
+        detach();
+        hot.clear();
+    }
+
+    // id 오름차순 두 흐름을 합침. | 같은 id 는 hot 값을 사용함.
+    private static final class MergingIterator implements Iterator<ItemValue> {
+        private final Iterator<ItemValue> hot;
+        private final Iterator<ItemValue> cold;
+        private ItemValue nextHot;
+        private ItemValue nextCold;
+
+        MergingIterator(Iterator<ItemValue> hot, Iterator<ItemValue> cold) {
+            this.hot = hot;
+            this.cold = cold;
+            this.nextHot = hot.hasNext() ? hot.next() : null;
+            this.nextCold = cold.hasNext() ? cold.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextHot != null || nextCold != null;
+        }
+
+        @Override
+        public ItemValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ItemValue item;
+            if (nextCold == null || (nextHot != null && nextHot.getId() <= nextCold.getId())) {
+                item = nextHot;
+                if (nextCold != null && nextCold.getId().equals(nextHot.getId())) {
+                    nextCold = cold.hasNext() ? cold.next() : null;
+                }
+                nextHot = hot.hasNext() ? hot.next() : null;
+            } else {
+                item = nextCold;
+                nextCold = cold.hasNext() ? cold.next() : null;
+            }
+            return item;
+        }
+    }
+}
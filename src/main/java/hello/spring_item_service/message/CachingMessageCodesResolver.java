@@ -0,0 +1,43 @@
+package hello.spring_item_service.message;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+/**
+ * (errorCode, objectName, field, fieldType) 별 메시지 코드 배열을 기억해 두는 MessageCodesResolver.
+ * 검증 오류마다 "required.item.itemName" 같은 코드 문자열을 새로 조합하지 않음.
+ * 반환하는 배열은 FieldError 가 그대로 보관하므로 기억해 둔 배열의 복사본을 반환함.
+ */
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+
+    private final MessageCodesResolver delegate;
+    private final Cache<Key, String[]> codes;
+
+    public CachingMessageCodesResolver(long maximumSize) {
+        this(new DefaultMessageCodesResolver(), maximumSize);
+    }
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate, long maximumSize) {
+        this.delegate = delegate;
+        // field 에는 목록 index (items[0].price) 가 들어갈 수 있으므로 크기를 제한함.
+        this.codes = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        return codes.get(new Key(errorCode, objectName, false, null, null),
+                key -> delegate.resolveMessageCodes(errorCode, objectName)).clone();
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, Class<?> fieldType) {
+        return codes.get(new Key(errorCode, objectName, true, field, fieldType),
+                key -> delegate.resolveMessageCodes(errorCode, objectName, field, fieldType)).clone();
+    }
+
+    // fieldError 로 ObjectError 와 field 가 null 인 FieldError 를 구분함.
+    private record Key(String errorCode, String objectName, boolean fieldError, String field, Class<?> fieldType) {
+    }
+}
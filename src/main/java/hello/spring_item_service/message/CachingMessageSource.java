@@ -0,0 +1,77 @@
+package hello.spring_item_service.message;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.util.ObjectUtils;
+
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * (코드, Locale) 별 조회 결과를 기억해 두는 ResourceBundleMessageSource.
+ * 검증 오류 하나는 코드 4~5 개를 차례로 찾고 대부분은 없는 코드이므로, 없는 결과도 함께 기억해 번들을 다시 찾지 않음.
+ * 인자가 있는 메시지는 MessageTemplate 으로 한 번만 해석해 두고 인자만 채움.
+ *
+ * cacheMillis (spring.messages.cache-duration) 를 설정해 번들을 다시 읽는 경우에는 기억하지 않고 기본 동작을 사용함.
+ */
+public class CachingMessageSource extends ResourceBundleMessageSource {
+
+    private final Cache<Key, Resolved> resolved;
+
+    public CachingMessageSource(long maximumSize) {
+        // Locale 은 요청 헤더에서 오므로 크기를 제한함.
+        this.resolved = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        if (!isCaching()) {
+            return super.resolveCodeWithoutArguments(code, locale);
+        }
+        return resolve(code, locale).message();
+    }
+
+    // AbstractMessageSource.getMessageInternal 과 같은 순서 | 번들 → commonMessages → parent
+    @Override
+    protected String getMessageInternal(String code, Object[] args, Locale locale) {
+        if (code == null || !isCaching() || (!isAlwaysUseMessageFormat() && ObjectUtils.isEmpty(args))) {
+            return super.getMessageInternal(code, args, locale);
+        }
+        Locale localeToUse = locale == null ? Locale.getDefault() : locale;
+        Object[] argsToUse = resolveArguments(args, localeToUse);
+        MessageTemplate template = resolve(code, localeToUse).template();
+        if (template != null) {
+            return template.format(argsToUse);
+        }
+
+        Properties commonMessages = getCommonMessages();
+        if (commonMessages != null) {
+            String commonMessage = commonMessages.getProperty(code);
+            if (commonMessage != null) {
+                return formatMessage(commonMessage, args, localeToUse);
+            }
+        }
+        return getMessageFromParent(code, argsToUse, localeToUse);
+    }
+
+    private boolean isCaching() {
+        return getCacheMillis() < 0;
+    }
+
+    private Resolved resolve(String code, Locale locale) {
+        return resolved.get(new Key(code, locale), key -> {
+            String message = super.resolveCodeWithoutArguments(code, locale);
+            return message == null ? Resolved.NONE
+                    : new Resolved(message, MessageTemplate.compile(message, locale, () -> createMessageFormat(message, locale)));
+        });
+    }
+
+    private record Key(String code, Locale locale) {
+    }
+
+    // 번들에 없는 코드는 message, template 모두 null
+    private record Resolved(String message, MessageTemplate template) {
+        static final Resolved NONE = new Resolved(null, null);
+    }
+}
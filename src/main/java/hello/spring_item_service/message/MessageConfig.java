@@ -0,0 +1,88 @@
+package hello.spring_item_service.message;
+
+import hello.spring_item_service.metrics.CountingMessageCodesResolver;
+import hello.spring_item_service.metrics.ValidationMetrics;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 검증 오류 메시지 조회에 사용하는 MessageCodesResolver / MessageSource 를 캐시 버전으로 교체함.
+ * messageSource 빈을 직접 등록하면 MessageSourceAutoConfiguration 이 빠지므로, spring.messages.* 설정은 여기서 같은 방식으로 적용함.
+ * MessageCodesResolver 는 오류 코드별 검증 오류 수도 함께 셈. | CountingMessageCodesResolver
+ */
+@Configuration
+public class MessageConfig implements WebMvcConfigurer {
+
+    // (코드, Locale) / (errorCode, objectName, field, fieldType) 조합 수 제한
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final ValidationMetrics validationMetrics;
+
+    public MessageConfig(ValidationMetrics validationMetrics) {
+        this.validationMetrics = validationMetrics;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public MessageSource messageSource(MessageSourceProperties properties) {
+        CachingMessageSource messageSource = new CachingMessageSource(MAXIMUM_SIZE);
+        if (!properties.getBasename().isEmpty()) {
+            messageSource.setBasenames(properties.getBasename().toArray(String[]::new));
+        }
+        if (properties.getEncoding() != null) {
+            messageSource.setDefaultEncoding(properties.getEncoding().name());
+        }
+        messageSource.setFallbackToSystemLocale(properties.isFallbackToSystemLocale());
+        Duration cacheDuration = properties.getCacheDuration();
+        if (cacheDuration != null) {
+            messageSource.setCacheMillis(cacheDuration.toMillis());
+        }
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+        if (properties.getCommonMessages() != null && !properties.getCommonMessages().isEmpty()) {
+            messageSource.setCommonMessages(loadCommonMessages(properties));
+        }
+        return messageSource;
+    }
+
+    @Bean
+    public MessageCodesResolver messageCodesResolver() {
+        // 캐시 적중 여부와 관계없이 세도록 캐시 바깥에서 셈.
+        return new CountingMessageCodesResolver(new CachingMessageCodesResolver(MAXIMUM_SIZE), validationMetrics);
+    }
+
+    // 모든 WebDataBinder (@ModelAttribute, @RequestBody 검증) 에 적용됨.
+    @Override
+    public MessageCodesResolver getMessageCodesResolver() {
+        return messageCodesResolver();
+    }
+
+    private static Properties loadCommonMessages(MessageSourceProperties properties) {
+        Properties commonMessages = new Properties();
+        for (Resource resource : properties.getCommonMessages()) {
+            try {
+                PropertiesLoaderUtils.fillProperties(commonMessages, resource);
+            } catch (IOException e) {
+                throw new UncheckedIOException("common messages 읽기 실패. resource=" + resource, e);
+            }
+        }
+        return commonMessages;
+    }
+}
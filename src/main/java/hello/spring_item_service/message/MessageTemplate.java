@@ -0,0 +1,124 @@
+package hello.spring_item_service.message;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 한 번 해석해 둔 (메시지, Locale) 형식.
+ * {0} 처럼 번호만 있는 인자로 이루어진 메시지는 미리 나눠 둔 문자열 사이에 인자만 채우므로
+ * 공유 MessageFormat 에 lock 을 걸지 않고, 숫자 형식도 Locale 마다 한 번 만든 NumberFormat 을 복사해서 사용함.
+ * {0,number,#} 같은 형식 지정이 있으면 MessageFormat 을 그대로 사용함. | AbstractMessageSource 와 같이 lock 안에서 format
+ *
+ * 인자 변환 규칙은 MessageFormat 과 같음. | null → "null", 숫자 → NumberFormat, 날짜 → SHORT 날짜/시각, 그 외 toString()
+ */
+final class MessageTemplate {
+
+    private final Locale locale;
+    // 단순 형식일 때 | literals 는 arguments 보다 항상 1 개 많음.
+    private final String[] literals;
+    private final int[] arguments;
+    private final NumberFormat numberFormat;
+    // 형식 지정이 있을 때
+    private final MessageFormat messageFormat;
+
+    private MessageTemplate(Locale locale, String[] literals, int[] arguments, MessageFormat messageFormat) {
+        this.locale = locale;
+        this.literals = literals;
+        this.arguments = arguments;
+        this.numberFormat = literals == null ? null : NumberFormat.getInstance(locale);
+        this.messageFormat = messageFormat;
+    }
+
+    /**
+     * @param messageFormat 단순 형식이 아닐 때 사용할 MessageFormat | MessageSourceSupport.createMessageFormat
+     */
+    static MessageTemplate compile(String pattern, Locale locale, Supplier<MessageFormat> messageFormat) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (quoted || c != '{') {
+                literal.append(c);
+            } else {
+                int end = pattern.indexOf('}', i);
+                int argument = end < 0 ? -1 : argumentIndex(pattern, i + 1, end);
+                if (argument < 0) {
+                    return new MessageTemplate(locale, null, null, messageFormat.get());
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(argument);
+                i = end;
+            }
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(locale, literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray(), null);
+    }
+
+    String format(Object[] args) {
+        if (messageFormat != null) {
+            synchronized (messageFormat) {
+                return messageFormat.format(args);
+            }
+        }
+        if (arguments.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder result = new StringBuilder(64);
+        NumberFormat numbers = null;
+        for (int i = 0; i < arguments.length; i++) {
+            result.append(literals[i]);
+            int argument = arguments[i];
+            if (args == null || argument >= args.length) {
+                result.append('{').append(argument).append('}');
+                continue;
+            }
+            Object arg = args[argument];
+            if (arg instanceof Number) {
+                if (numbers == null) {
+                    numbers = (NumberFormat) numberFormat.clone();
+                }
+                result.append(numbers.format(arg));
+            } else if (arg instanceof Date) {
+                result.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+            } else {
+                result.append(arg);
+            }
+        }
+        return result.append(literals[arguments.length]).toString();
+    }
+
+    // {숫자} 이면 숫자, 그 외 (형식 지정, 공백 등) 는 -1
+    private static int argumentIndex(String pattern, int from, int to) {
+        if (from == to || to - from > 9) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
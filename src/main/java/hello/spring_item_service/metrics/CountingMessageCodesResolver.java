@@ -0,0 +1,31 @@
+package hello.spring_item_service.metrics;
+
+import org.springframework.validation.MessageCodesResolver;
+
+/**
+ * 메시지 코드를 만들 때마다 오류 코드별 검증 오류 수를 세는 MessageCodesResolver.
+ * rejectValue / reject, Bean Validation, 타입 변환 오류는 모두 오류 하나당 한 번 코드를 만들므로 한 곳에서 셀 수 있음.
+ * 코드 배열을 직접 지정해 만든 FieldError / ObjectError 는 세지 않음.
+ */
+public class CountingMessageCodesResolver implements MessageCodesResolver {
+
+    private final MessageCodesResolver delegate;
+    private final ValidationMetrics metrics;
+
+    public CountingMessageCodesResolver(MessageCodesResolver delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        metrics.recordError(errorCode);
+        return delegate.resolveMessageCodes(errorCode, objectName);
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, Class<?> fieldType) {
+        metrics.recordError(errorCode);
+        return delegate.resolveMessageCodes(errorCode, objectName, field, fieldType);
+    }
+}
@@ -0,0 +1,65 @@
+package hello.spring_item_service.metrics;
+
+import hello.spring_item_service.domain.item.ItemRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 / 검증 / 렌더링 지표 설정. | /actuator/prometheus 로 노출
+ * - http.server.requests{uri, method, status} : 엔드포인트별 요청 시간 (Spring Boot 기본)
+ * - item.repository{operation} : ItemRepository 작업 시간
+ * - item.validation{form}, item.validation.errors{code} : 검증 시간 / 오류 코드별 오류 수
+ * - item.view.render{view} : 화면 렌더링 시간
+ * - item.replication.lag.changes, item.replication.lag, item.replication.last.contact : follower 복제 지연 (변경 수 / 시간)
+ * - item.feed.subscribers, item.feed.resets, item.feed.coalesced : 변경 알림 구독자 수 / reset 횟수 / 합쳐진 변경 수 (ItemChangeFeedController)
+ * percentile histogram 은 application.properties 의 management.metrics.distribution.* 로 설정함.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer, WebMvcRegistrations {
+
+    private final MeterRegistry registry;
+    private final ValidationMetrics validationMetrics;
+
+    public MetricsConfig(MeterRegistry registry, ValidationMetrics validationMetrics) {
+        this.registry = registry;
+        this.validationMetrics = validationMetrics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderMetricsInterceptor(this.registry));
+    }
+
+    @Override
+    public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+        return new TimedValidationHandlerAdapter(validationMetrics);
+    }
+
+    @Bean
+    public MeterBinder itemReplicationMetrics(ItemRepository itemRepository) {
+        return registry -> {
+            Gauge.builder("item.replication.lag.changes", itemRepository,
+                            repository -> repository.replicationStatus().lagSequences())
+                    .description("follower 가 아직 반영하지 못한 leader 변경 수")
+                    .register(registry);
+            TimeGauge.builder("item.replication.lag", itemRepository, TimeUnit.MILLISECONDS,
+                            repository -> repository.replicationStatus().lagMillis())
+                    .description("follower 가 leader 를 따라잡지 못한 채 지난 시간")
+                    .register(registry);
+            TimeGauge.builder("item.replication.last.contact", itemRepository, TimeUnit.MILLISECONDS,
+                            repository -> repository.replicationStatus().lastContactMillis())
+                    .description("follower 가 마지막으로 leader 응답을 받은 뒤 지난 시간, 받은 적이 없으면 -1")
+                    .register(registry);
+        };
+    }
+}
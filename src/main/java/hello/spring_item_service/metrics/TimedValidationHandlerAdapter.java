@@ -0,0 +1,70 @@
+package hello.spring_item_service.metrics;
+
+import org.springframework.web.bind.ServletRequestDataBinder;
+import org.springframework.web.bind.support.WebBindingInitializer;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.InitBinderDataBinderFactory;
+import org.springframework.web.method.support.InvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.List;
+
+/**
+ * @Validated @ModelAttribute / @RequestBody 검증 시간을 기록하는 RequestMappingHandlerAdapter.
+ * 검증은 binder.validate 로 실행되므로 binder 에서 재면 @InitBinder 로 Validator 를 바꾼 컨트롤러 (V2, V4, API) 도 함께 측정됨.
+ * 컨트롤러 안에서 직접 실행하는 검증 (V1, V2 초기 버전) 은 요청 Timer (http.server.requests) 에만 포함됨.
+ */
+public class TimedValidationHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    private final ValidationMetrics metrics;
+
+    public TimedValidationHandlerAdapter(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected InitBinderDataBinderFactory createDataBinderFactory(List<InvocableHandlerMethod> binderMethods) {
+        return new TimedDataBinderFactory(binderMethods, getWebBindingInitializer(), metrics);
+    }
+
+    private static class TimedDataBinderFactory extends ServletRequestDataBinderFactory {
+
+        private final ValidationMetrics metrics;
+
+        TimedDataBinderFactory(List<InvocableHandlerMethod> binderMethods, WebBindingInitializer initializer,
+                               ValidationMetrics metrics) {
+            super(binderMethods, initializer);
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected ServletRequestDataBinder createBinderInstance(Object target, String objectName, NativeWebRequest request) {
+            return new TimedDataBinder(target, objectName, metrics);
+        }
+    }
+
+    private static class TimedDataBinder extends ExtendedServletRequestDataBinder {
+
+        private final ValidationMetrics metrics;
+
+        TimedDataBinder(Object target, String objectName, ValidationMetrics metrics) {
+            super(target, objectName);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void validate(Object... validationHints) {
+            long startNanos = System.nanoTime();
+            try {
+                super.validate(validationHints);
+            } finally {
+                Object target = getTarget();
+                if (target != null) {
+                    metrics.recordValidation(target.getClass(), startNanos);
+                }
+            }
+        }
+    }
+}
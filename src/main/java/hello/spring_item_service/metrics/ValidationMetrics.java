@@ -0,0 +1,46 @@
+package hello.spring_item_service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 시간 / 검증 오류 지표.
+ * - item.validation{form} : 폼 하나를 검증하는 데 걸린 시간
+ * - item.validation.errors{code} : 오류 코드별 (NotBlank, range, totalPriceMin, typeMismatch ...) 오류 수
+ *
+ * Timer / Counter 는 폼 타입 / 오류 코드마다 처음 한 번만 등록하고 이후에는 map 에서 꺼내 기록함.
+ * 폼 타입과 오류 코드는 코드에 정해진 값이므로 개수가 늘어나지 않음.
+ */
+@Component
+public class ValidationMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordValidation(Class<?> formType, long startNanos) {
+        timers.computeIfAbsent(formType, type -> Timer.builder("item.validation")
+                        .description("폼 검증 시간")
+                        .tag("form", type.getSimpleName())
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordError(String code) {
+        errors.computeIfAbsent(code, errorCode -> Counter.builder("item.validation.errors")
+                        .description("오류 코드별 검증 오류 수")
+                        .tag("code", errorCode)
+                        .register(registry))
+                .increment();
+    }
+}
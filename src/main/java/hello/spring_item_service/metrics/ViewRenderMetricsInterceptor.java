@@ -0,0 +1,54 @@
+package hello.spring_item_service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf 화면 렌더링 시간. | item.view.render{view}
+ * postHandle (렌더링 직전) 부터 afterCompletion (렌더링 직후) 까지를 잼.
+ * redirect / forward 와 화면 없이 끝난 요청 (304, @ResponseBody) 은 기록하지 않음.
+ */
+public class ViewRenderMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String TIMER = ViewRenderMetricsInterceptor.class.getName() + ".timer";
+    private static final String START_NANOS = ViewRenderMetricsInterceptor.class.getName() + ".startNanos";
+
+    private final MeterRegistry registry;
+    // view 이름은 템플릿 경로이므로 개수가 늘어나지 않음.
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ViewRenderMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || !isTemplate(modelAndView.getViewName())) {
+            return;
+        }
+        request.setAttribute(TIMER, timers.computeIfAbsent(modelAndView.getViewName(), view -> Timer.builder("item.view.render")
+                .description("화면 렌더링 시간")
+                .tag("view", view)
+                .register(registry)));
+        request.setAttribute(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(TIMER) instanceof Timer timer && request.getAttribute(START_NANOS) instanceof Long startNanos) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean isTemplate(String viewName) {
+        return viewName != null && !viewName.startsWith("redirect:") && !viewName.startsWith("forward:");
+    }
+}
@@ -0,0 +1,40 @@
+package hello.spring_item_service.web;
+
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemStats;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 상품 상세 / 목록 화면의 조건부 GET 처리.
+ * If-None-Match / If-Modified-Since 가 현재 값과 같으면 304 를 설정하고 true 를 반환함.
+ * 이 경우 컨트롤러는 null 을 반환해 템플릿 렌더링 없이 응답을 끝냄.
+ *
+ * 화면은 메시지 언어에 따라 달라지므로 ETag 에 locale 을 포함함.
+ */
+public final class ItemConditionalGet {
+
+    private ItemConditionalGet() {
+    }
+
+    // 상세 화면 | ETag = id + version
+    public static boolean item(WebRequest request, ItemValue item) {
+        if (item == null || item.getVersion() == null) {
+            return false;
+        }
+        String etag = "W/\"item-" + item.getId() + "-" + item.getVersion() + "-" + LocaleContextHolder.getLocale() + "\"";
+        return request.checkNotModified(etag, item.getLastModified() == null ? -1 : item.getLastModified());
+    }
+
+    /**
+     * 목록 화면 | ETag = 저장소 전체 변경 횟수 (파티션 사용 시 모든 노드의 합)
+     * 목록을 조회하기 전에 호출해야 함. | 조회 후에 호출하면 그 사이의 변경을 놓친 ETag 가 만들어질 수 있음.
+     */
+    public static boolean items(WebRequest request, ItemRepository itemRepository) {
+        ItemStats stats = itemRepository.stats();
+        String etag = "W/\"items-" + stats.epoch() + "-" + stats.modificationCount()
+                + "-" + LocaleContextHolder.getLocale() + "\"";
+        return request.checkNotModified(etag, stats.lastModified());
+    }
+}
@@ -0,0 +1,75 @@
+package hello.spring_item_service.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hello.spring_item_service.domain.item.ItemValue;
+import jakarta.servlet.ServletContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.IServletWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 화면의 상품 한 줄 (<tr th:fragment="row">) 렌더링 결과를 기억해 두는 캐시.
+ * 목록 화면은 기억해 둔 줄을 이어 붙여 ${rows} 로 출력하므로, 요청마다 상품 수만큼 템플릿을 실행하지 않음.
+ *
+ * 키는 (템플릿, Locale, ItemValue) | ItemValue 는 변경 불가능하고 값으로 비교하므로,
+ * 상품이 수정되면 저장소가 새 ItemValue 를 반환해 자동으로 다시 렌더링함. 이전 줄은 크기 제한으로 제거됨.
+ */
+@Component
+public class ItemRowCache {
+
+    private static final String ROW_FRAGMENT = "row";
+
+    private final SpringTemplateEngine templateEngine;
+    private final JakartaServletWebApplication application;
+    private final Cache<Key, String> rows;
+
+    public ItemRowCache(SpringTemplateEngine templateEngine, ServletContext servletContext,
+                        @Value("${item.view.row-cache-size:10000}") long maximumSize) {
+        this.templateEngine = templateEngine;
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+        this.rows = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * items 의 줄을 순서대로 이어 붙인 HTML. | 템플릿에서 th:utext 로 출력함.
+     * @param template row fragment 가 있는 목록 템플릿 (basic/items ...)
+     */
+    public String rows(String template, List<ItemValue> items, ServletWebRequest request) {
+        Locale locale = LocaleContextHolder.getLocale();
+        StringBuilder html = new StringBuilder(items.size() * 256);
+        IServletWebExchange exchange = null;
+        for (ItemValue item : items) {
+            Key key = new Key(template, locale, item);
+            String row = rows.getIfPresent(key);
+            if (row == null) {
+                if (exchange == null) {
+                    exchange = application.buildExchange(request.getRequest(), request.getResponse());
+                }
+                IServletWebExchange rowExchange = exchange;
+                row = rows.get(key, k -> render(template, item, rowExchange, locale));
+            }
+            html.append(row);
+        }
+        return html.toString();
+    }
+
+    // row fragment 는 th:each="item : ${items}" 이므로 상품 하나만 담은 목록으로 실행함.
+    private String render(String template, ItemValue item, IServletWebExchange exchange, Locale locale) {
+        WebContext context = new WebContext(exchange, locale, Map.of("items", List.of(item)));
+        return templateEngine.process(template, Set.of(ROW_FRAGMENT), context);
+    }
+
+    private record Key(String template, Locale locale, ItemValue item) {
+    }
+}
@@ -0,0 +1,39 @@
+package hello.spring_item_service.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 노드 간 호출 API (/internal/**) 인증. | header 값이 secret 과 같을 때만 처리하고, 아니면 403 으로 응답함.
+ * 비교 시간이 일치하는 앞부분 길이에 따라 달라지지 않도록 MessageDigest.isEqual 로 비교함.
+ * 파티션 (/internal/items, RestItemNode) 과 복제 (/internal/replication, ItemReplicaFollower) 가 각자의 header / secret 으로 사용함.
+ */
+@Slf4j
+public class ItemSecretInterceptor implements HandlerInterceptor {
+
+    private final String header;
+    private final byte[] secret;
+
+    public ItemSecretInterceptor(String header, String secret) {
+        this.header = header;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String value = request.getHeader(header);
+        if (value != null && MessageDigest.isEqual(secret, value.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        log.warn("rejected internal request without a valid secret. header={} remote={} uri={}",
+                header, request.getRemoteAddr(), request.getRequestURI());
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        return false;
+    }
+}
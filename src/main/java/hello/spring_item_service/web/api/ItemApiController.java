@@ -0,0 +1,195 @@
+package hello.spring_item_service.web.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemCacheStats;
+import hello.spring_item_service.domain.item.ItemInventoryStats;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemReplicationStatus;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.validation.ItemApiError;
+import hello.spring_item_service.web.validation.ItemBatchValidator;
+import hello.spring_item_service.web.validation.form.ItemSaveForm;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 상품 카탈로그 대량 내보내기 / 가져오기 API. | NDJSON (한 줄에 Item 하나)
+ * 전체 목록을 메모리에 만들지 않고 한 줄씩 쓰고 읽음.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/items")
+@RequiredArgsConstructor
+public class ItemApiController {
+
+    // 가져오기 시 한 번에 검증 / 저장하는 줄 수
+    static final int IMPORT_BATCH_SIZE = 1_000;
+    // 진행 상황 로그 간격 (줄 수)
+    private static final long PROGRESS_EVERY = 100_000;
+
+    private final ItemRepository itemRepository;
+    private final ItemBatchValidator itemBatchValidator;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver messageCodesResolver;
+
+//  PLUS : 전체 상품을 id 순서로 내보냄. | 저장소를 순회하며 바로 응답에 씀.
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            try (Stream<ItemValue> items = itemRepository.stream();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                Iterator<ItemValue> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+//  PLUS : NDJSON 본문을 한 줄씩 읽어 등록함.
+//  ItemSaveForm 검증 + totalPriceMin 을 적용하고, IMPORT_BATCH_SIZE 줄마다 한 번에 저장함.
+//  진행 상황은 서버 로그에만 남기고, 응답은 끝난 뒤 ItemImportResult 하나임.
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ItemImportResult importItems(InputStream body, Locale locale) throws IOException {
+        return importLines(body, locale, progress -> {
+        });
+    }
+
+//  PLUS : ?progress 이면 응답도 NDJSON 으로, 묶음을 저장할 때마다 진행 상황 (lines / imported / rejected) 한 줄을 바로 내보내고
+//  마지막 줄에 ItemImportResult 를 씀. | 클라이언트가 가져오기가 끝나기 전에 진행 상황을 볼 수 있음.
+    @PostMapping(value = "/import", params = "progress", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importItemsWithProgress(InputStream body, Locale locale, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // 줄 구분은 writeLine 이 하므로 최상위 값 사이의 기본 구분자 (공백) 는 쓰지 않음.
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            ItemImportResult result = importLines(body, locale, progress -> writeLine(generator, progress.progress()));
+            writeLine(generator, result);
+        }
+    }
+
+    private static void writeLine(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param onBatch 묶음을 저장할 때마다 호출됨. | 마지막 묶음 뒤에는 호출되지 않음.
+     */
+    private ItemImportResult importLines(InputStream body, Locale locale, Consumer<ItemImportResult> onBatch) throws IOException {
+        ItemImportResult result = new ItemImportResult();
+        ObjectReader formReader = objectMapper.readerFor(ItemSaveForm.class);
+        long startNanos = System.nanoTime();
+
+        List<ItemSaveForm> forms = new ArrayList<>(IMPORT_BATCH_SIZE);
+        List<Long> formLines = new ArrayList<>(IMPORT_BATCH_SIZE);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.line();
+            try {
+                forms.add(formReader.readValue(line));
+                formLines.add(lineNumber);
+            } catch (JsonProcessingException e) {
+                // Jackson 메시지는 내부 형식 / 위치를 담으므로 응답에는 메시지 소스의 typeMismatch 메시지만 씀.
+                ObjectError error = ItemApiError.typeMismatch(e, messageCodesResolver);
+                result.reject(lineNumber, List.of(ItemApiError.of(error, messageSource, locale)));
+            }
+
+            if (forms.size() == IMPORT_BATCH_SIZE) {
+                flush(forms, formLines, result, locale);
+                onBatch.accept(result);
+            }
+            if (lineNumber % PROGRESS_EVERY == 0) {
+                log.info("item import progress lines={} imported={} rejected={}",
+                        result.getLines(), result.getImported(), result.getRejected());
+            }
+        }
+        flush(forms, formLines, result, locale);
+
+        result.finish(System.nanoTime() - startNanos);
+        log.info("item import finished lines={} imported={} rejected={} elapsedMs={} itemsPerSecond={}",
+                result.getLines(), result.getImported(), result.getRejected(), result.getElapsedMs(), result.getItemsPerSecond());
+        return result;
+    }
+
+//  PLUS : findById 캐시 적중 / 실패 / 제거 통계.
+    @GetMapping("/cache")
+    public ItemCacheStats cacheStats() {
+        return itemRepository.cacheStats();
+    }
+
+//  PLUS : 재고 집계 (상품 수 / 수량 / 가격 * 수량 합계 / 가격 구간별 상품 수). | 저장소가 유지하는 값을 읽기만 함.
+    @GetMapping("/stats")
+    public ItemInventoryStats inventoryStats() {
+        return itemRepository.inventory();
+    }
+
+//  PLUS : 복제 역할 / 반영 위치 / 지연.
+    @GetMapping("/replication")
+    public ItemReplicationStatus replicationStatus() {
+        return itemRepository.replicationStatus();
+    }
+
+    // 모아둔 줄을 한 번에 검증하고 통과한 Item 만 저장함.
+    private void flush(List<ItemSaveForm> forms, List<Long> formLines, ItemImportResult result, Locale locale) {
+        Map<Integer, List<ObjectError>> errors = itemBatchValidator.validate(forms);
+        List<Item> items = new ArrayList<>(forms.size() - errors.size());
+        for (int i = 0; i < forms.size(); i++) {
+            List<ObjectError> formErrors = errors.get(i);
+            if (formErrors != null) {
+                result.reject(formLines.get(i), formErrors.stream()
+                        .map(error -> ItemApiError.of(error, messageSource, locale))
+                        .toList());
+                continue;
+            }
+            ItemSaveForm form = forms.get(i);
+            items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+        }
+        itemRepository.saveAll(items);
+        result.imported(items.size());
+        forms.clear();
+        formLines.clear();
+    }
+}
@@ -0,0 +1,58 @@
+package hello.spring_item_service.web.api;
+
+import hello.spring_item_service.web.validation.ItemApiError;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON 가져오기 결과.
+ * 거부된 줄은 개수는 모두 세지만, 응답 크기를 제한하기 위해 상세 오류는 MAX_REJECTED_LINES 줄까지만 담음.
+ * JSON 형식 오류는 읽는 즉시, 검증 오류는 묶음 저장 시 기록하므로 rejectedLines 는 줄 번호 순서가 아닐 수 있음.
+ * 오류는 단건 / 배치 API 와 같은 ItemApiError 형식임.
+ */
+@Getter
+public class ItemImportResult {
+
+    public static final int MAX_REJECTED_LINES = 100;
+
+    private long lines;
+    private long imported;
+    private long rejected;
+    private final List<RejectedLine> rejectedLines = new ArrayList<>();
+    private long elapsedMs;
+    private long itemsPerSecond;
+
+    void line() {
+        lines++;
+    }
+
+    void imported(int count) {
+        imported += count;
+    }
+
+    void reject(long line, List<ItemApiError> errors) {
+        rejected++;
+        if (rejectedLines.size() < MAX_REJECTED_LINES) {
+            rejectedLines.add(new RejectedLine(line, errors));
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        elapsedMs = elapsedNanos / 1_000_000;
+        itemsPerSecond = elapsedNanos == 0 ? 0 : imported * 1_000_000_000L / elapsedNanos;
+    }
+
+    // 지금까지의 처리 수 | ?progress 요청에 묶음마다 한 줄씩 응답함.
+    Progress progress() {
+        return new Progress(lines, imported, rejected);
+    }
+
+    // line 은 1 부터 시작하는 요청 본문의 줄 번호
+    public record RejectedLine(long line, List<ItemApiError> errors) {
+    }
+
+    public record Progress(long lines, long imported, long rejected) {
+    }
+}
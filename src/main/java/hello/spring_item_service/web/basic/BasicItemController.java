@@ -1,34 +1,49 @@
 package hello.spring_item_service.web.basic;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.ItemRowCache;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/basic/items")
 @RequiredArgsConstructor
 public class BasicItemController {
     private final ItemRepository itemRepository;
+    private final ItemRowCache itemRowCache;
 
+//  REFACTOR : 상품 줄은 ItemRowCache 에 기억해 둔 HTML 을 이어 붙여 출력함. | 수정된 상품만 다시 렌더링함.
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("rows", itemRowCache.rows("basic/items", page.getItems(), webRequest));
+        model.addAttribute("page", page);
         return "basic/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable("itemId") Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable("itemId") Long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
 
         return "basic/item";
@@ -50,9 +65,9 @@ public class BasicItemController {
             Model model
     ) {
         Item item = new Item(itemName, price, quantity);
-        itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
 
-        model.addAttribute("item", item);
+        model.addAttribute("item", savedItem);
 
         return "basic/item";
     }
@@ -63,9 +78,11 @@ public class BasicItemController {
      */
 //  @PostMapping("/add")
     public String addItemV2(@ModelAttribute("item") Item item, Model model) {
-        itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
 
 //        model.addAttribute("item", item);
+        // save 는 폼 Item 에 id 를 설정하지 않으므로 저장된 ItemValue 로 교체함.
+        model.addAttribute("item", savedItem);
         return "basic/item";
     }
 
@@ -75,9 +92,10 @@ public class BasicItemController {
      * 생략시 model에 저장되는 name은 클래스명 첫글자만 소문자로 등록 Item -> item
      */
 //  @PostMapping("/add")
-    public String addItemV3(@ModelAttribute Item item) {
-        itemRepository.save(item);
+    public String addItemV3(@ModelAttribute Item item, Model model) {
+        ItemValue savedItem = itemRepository.save(item);
 
+        model.addAttribute("item", savedItem);
         return "basic/item";
     }
 
@@ -86,9 +104,10 @@ public class BasicItemController {
      * model.addAttribute(item) 자동 추가
      */
 //    @PostMapping("/add")
-    public String addItemV4(Item item) {
-        itemRepository.save(item);
+    public String addItemV4(Item item, Model model) {
+        ItemValue savedItem = itemRepository.save(item);
 
+        model.addAttribute("item", savedItem);
         return "basic/item";
     }
 
@@ -99,14 +118,14 @@ public class BasicItemController {
      */
 //    @PostMapping("/add")
     public String addItemV5(Item item) {
-        itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
 
-        return "redirect:/basic/items/" + item.getId();
+        return "redirect:/basic/items/" + savedItem.getId();
     }
 
     @PostMapping("/add")
     public String addItemV6(Item item, RedirectAttributes redirectAttributes) {
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
 
@@ -116,7 +135,7 @@ public class BasicItemController {
 //  FIXME : 상품 수정 폼
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable("itemId") Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "basic/editForm";
     }
@@ -133,9 +152,15 @@ public class BasicItemController {
      * 테스트용 데이터가 없으면 회원 목록 기능이 정상 작동하는 것을 확인하는데 어려움이 있음.
      * @PostConstruct
      * 해당 빈의 의존관계가 모두 주입되고 나면 초기화 용도로 호출함.
+     * REFACTOR : 파일에서 복구된 상품이 있으면 테스트용 데이터를 다시 추가하지 않음.
+     * REFACTOR : 파티션 사용 시 첫 번째 노드에만 추가함. | 기동 중에는 다른 노드를 호출하지 않도록 이 노드의 수만 확인함.
+     * REFACTOR : 복제 follower 는 leader 의 상품만 받으므로 추가하지 않음.
      */
     @PostConstruct
     public void init() {
+        if (itemRepository.isReplica() || itemRepository.nodeIndex() > 0 || itemRepository.localStats().count() > 0) {
+            return;
+        }
         itemRepository.save(new Item("testA", 10_000, 10));
         itemRepository.save(new Item("testB", 10_000, 20));
     }
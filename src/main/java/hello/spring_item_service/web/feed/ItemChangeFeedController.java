@@ -0,0 +1,87 @@
+package hello.spring_item_service.web.feed;
+
+import hello.spring_item_service.domain.item.ItemFeedProperties;
+import hello.spring_item_service.domain.item.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 변경 알림 API. | Server-Sent Events
+ * 목록을 주기적으로 다시 읽는 대신 등록 / 수정이 일어날 때마다 변경 전후 값을 받음.
+ *
+ * 이벤트 | created, updated : ItemChangeEvent, reset : ItemChangeEvents (전체 목록을 다시 읽어야 함)
+ * 이벤트 id 는 "epoch.변경 번호" 이며, 다시 연결할 때 Last-Event-ID 로 보내면 그 다음 변경부터 받음.
+ * 처음 구독하면 구독 이후의 변경만 받음. | after 로 현재 epoch 의 변경 번호를 지정할 수 있음.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/items")
+@ConditionalOnProperty(name = "item.feed.enabled", havingValue = "true")
+public class ItemChangeFeedController {
+
+    private final ItemRepository itemRepository;
+    private final ItemFeedProperties properties;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter resets;
+    private final Counter coalesced;
+
+    public ItemChangeFeedController(ItemRepository itemRepository, ItemFeedProperties properties, MeterRegistry registry) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+        Gauge.builder("item.feed.subscribers", subscribers, AtomicInteger::get)
+                .description("변경 알림 구독자 수")
+                .register(registry);
+        this.resets = Counter.builder("item.feed.resets")
+                .description("로그에서 지워진 위치를 요청해 reset 을 받은 횟수")
+                .register(registry);
+        this.coalesced = Counter.builder("item.feed.coalesced")
+                .description("같은 id 의 변경과 합쳐져 따로 보내지 않은 변경 수")
+                .register(registry);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> changes(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+                                              @RequestParam(required = false) Long after) {
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        long epoch = itemRepository.epoch();
+        long position = after != null ? after : itemRepository.lastChangeEventSequence();
+        if (lastEventId != null) {
+            // 형식이 다르면 epoch 0 으로 두어 reset 을 받게 함.
+            String[] id = lastEventId.split("\\.");
+            try {
+                epoch = Long.parseLong(id[0]);
+                position = Long.parseLong(id[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.debug("invalid Last-Event-ID. value={}", lastEventId);
+                epoch = 0;
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        ItemChangeSubscriber subscriber = new ItemChangeSubscriber(emitter, itemRepository, properties,
+                epoch, position, resets, coalesced, subscribers::decrementAndGet);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -0,0 +1,131 @@
+package hello.spring_item_service.web.feed;
+
+import hello.spring_item_service.domain.item.ItemChangeEvent;
+import hello.spring_item_service.domain.item.ItemChangeEvents;
+import hello.spring_item_service.domain.item.ItemFeedProperties;
+import hello.spring_item_service.domain.item.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 구독자 하나의 전송 루프. | 가상 스레드 item-feed-subscriber
+ * 구독자는 ItemRepository 의 변경 로그에서 자신의 위치만 가지므로, 구독자가 늘어도 변경 값은 한 번만 보관됨.
+ * 변경이 없으면 로그의 Condition 에서 기다리므로 대기 중인 구독자는 가상 스레드 하나만 차지함.
+ *
+ * 느린 구독자 (backpressure)
+ * - 응답 쓰기가 막히면 이 스레드만 기다리고, 그동안 쌓인 변경은 다음 묶음에서 id 별로 하나로 합쳐 보냄.
+ * - 로그 크기 (item.feed.log-size) 보다 더 뒤처지면 reset 을 보내고 현재 위치로 건너뜀. | 서버 메모리는 로그 크기를 넘지 않음.
+ * 이벤트 id 는 묶음의 마지막 이벤트에만 붙이므로, 묶음 중간에 끊기면 다시 연결했을 때 그 묶음을 처음부터 다시 받음.
+ */
+@Slf4j
+final class ItemChangeSubscriber implements Runnable {
+
+    private static final Comparator<ItemChangeEvent> SEQUENCE_ORDER = Comparator.comparingLong(ItemChangeEvent::sequence);
+
+    private final SseEmitter emitter;
+    private final ItemRepository itemRepository;
+    private final ItemFeedProperties properties;
+    private final Counter resets;
+    private final Counter coalesced;
+    private final Runnable onClose;
+
+    // 다음에 요청할 위치 | 전송 스레드만 사용함.
+    private long epoch;
+    private long after;
+
+    private volatile boolean closed;
+    private volatile Thread thread;
+
+    ItemChangeSubscriber(SseEmitter emitter, ItemRepository itemRepository, ItemFeedProperties properties,
+                         long epoch, long after, Counter resets, Counter coalesced, Runnable onClose) {
+        this.emitter = emitter;
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+        this.epoch = epoch;
+        this.after = after;
+        this.resets = resets;
+        this.coalesced = coalesced;
+        this.onClose = onClose;
+    }
+
+    void start() {
+        thread = Thread.ofVirtual().name("item-feed-subscriber").start(this);
+    }
+
+    // 연결 종료 / 시간 초과 / 오류 시 호출됨. | 기다리는 중이면 깨워서 끝냄.
+    void close() {
+        closed = true;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!closed) {
+                ItemChangeEvents events = itemRepository.changeEventsAfter(epoch, after,
+                        properties.getBatchSize(), properties.getHeartbeat());
+                if (events.reset()) {
+                    reset(events);
+                } else if (events.events().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    send(events.events());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김, 또는 이미 완료된 emitter
+            log.debug("item feed subscriber closed. error={}", e.toString());
+        } finally {
+            emitter.complete();
+            onClose.run();
+        }
+    }
+
+    private void reset(ItemChangeEvents events) throws IOException {
+        resets.increment();
+        epoch = events.epoch();
+        after = events.lastSequence();
+        emitter.send(SseEmitter.event()
+                .name("reset")
+                .id(epoch + "." + after)
+                .data(events, MediaType.APPLICATION_JSON));
+    }
+
+    // 같은 id 의 변경을 하나로 합쳐 변경 번호 순서로 보냄.
+    private void send(List<ItemChangeEvent> events) throws IOException {
+        Map<Long, ItemChangeEvent> byId = new LinkedHashMap<>();
+        for (ItemChangeEvent event : events) {
+            byId.merge(event.after().getId(), event, ItemChangeEvent::merge);
+        }
+        coalesced.increment(events.size() - byId.size());
+
+        List<ItemChangeEvent> merged = new ArrayList<>(byId.values());
+        merged.sort(SEQUENCE_ORDER);
+        long last = events.getLast().sequence();
+        for (ItemChangeEvent event : merged) {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event.type().name().toLowerCase(Locale.ROOT))
+                    .data(event, MediaType.APPLICATION_JSON);
+            if (event.sequence() == last) {
+                builder.id(epoch + "." + last);
+            }
+            emitter.send(builder);
+        }
+        after = last;
+    }
+}
@@ -0,0 +1,42 @@
+package hello.spring_item_service.web.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 1 초 단위 고정 구간마다 최대 permitsPerSecond 건만 허용함.
+ * 허용하지 않은 건수는 suppressed 에 모아 두었다가 다음에 기록하는 이벤트에 함께 남김.
+ * lock 없이 AtomicLong 만 사용하므로 요청 스레드를 막지 않음.
+ */
+final class EventRateLimiter {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong permits = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    EventRateLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        // 구간이 지났으면 한 스레드만 새 구간을 시작함.
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            permits.set(0);
+        }
+        if (permits.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    // 마지막 기록 이후 버린 건수 | 읽으면서 0 으로 되돌림.
+    long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
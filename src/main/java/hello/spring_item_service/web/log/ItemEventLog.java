@@ -0,0 +1,127 @@
+package hello.spring_item_service.web.log;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 상품 컨트롤러 이벤트 로그. | event=... method=... endpoint=... key=value 한 줄
+ * - INFO 가 꺼져 있으면 아무것도 하지 않음.
+ * - 이벤트 종류별로 초당 item.log.events-per-second 건까지만 기록하고, 버린 건수는 다음 기록의 suppressed 로 남김.
+ * - 오류 코드 목록은 실제로 기록할 때만 문자열로 만듦. | BindingResult.toString 을 사용하지 않음.
+ * - latencyMs 는 요청이 컨트롤러에 도착한 뒤 (preHandle) 부터 이벤트까지의 시간 | 바인딩, 검증 포함
+ * 출력은 logback-spring.xml 의 AsyncAppender 가 요청 스레드와 별도로 처리함.
+ */
+@Slf4j
+@Component
+public class ItemEventLog implements HandlerInterceptor {
+
+    private static final String START_NANOS = ItemEventLog.class.getName() + ".startNanos";
+
+    private final EventRateLimiter validationFailed;
+    private final EventRateLimiter batchRejected;
+    private final EventRateLimiter unreadable;
+
+    public ItemEventLog(@Value("${item.log.events-per-second:20}") int eventsPerSecond) {
+        this.validationFailed = new EventRateLimiter(eventsPerSecond);
+        this.batchRejected = new EventRateLimiter(eventsPerSecond);
+        this.unreadable = new EventRateLimiter(eventsPerSecond);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (log.isInfoEnabled()) {
+            request.setAttribute(START_NANOS, System.nanoTime());
+        }
+        return true;
+    }
+
+    // 폼 검증 실패 | codes=필드:코드,... (전체 오류는 코드만)
+    public void validationFailed(Errors errors) {
+        if (log.isInfoEnabled() && validationFailed.tryAcquire()) {
+            HttpServletRequest request = currentRequest();
+            log.info("event=validation_failed method={} endpoint={} object={} errors={} codes={} latencyMs={} suppressed={}",
+                    method(request), endpoint(request), errors.getObjectName(), errors.getErrorCount(),
+                    new ErrorCodes(errors), latencyMs(request), validationFailed.drainSuppressed());
+        }
+    }
+
+    // 폼 검증 실패 | 오류 코드 없이 필드 이름만 있는 경우 (V1)
+    public void validationFailed(Map<String, String> errors) {
+        if (log.isInfoEnabled() && validationFailed.tryAcquire()) {
+            HttpServletRequest request = currentRequest();
+            log.info("event=validation_failed method={} endpoint={} errors={} fields={} latencyMs={} suppressed={}",
+                    method(request), endpoint(request), errors.size(), errors.keySet(),
+                    latencyMs(request), validationFailed.drainSuppressed());
+        }
+    }
+
+    public void batchRejected(int requested, int rejected) {
+        if (log.isInfoEnabled() && batchRejected.tryAcquire()) {
+            HttpServletRequest request = currentRequest();
+            log.info("event=batch_rejected method={} endpoint={} requested={} rejected={} latencyMs={} suppressed={}",
+                    method(request), endpoint(request), requested, rejected, latencyMs(request), batchRejected.drainSuppressed());
+        }
+    }
+
+    // 요청 본문을 폼으로 바꾸지 못함 | field 는 알 수 없으면 null
+    public void unreadable(String field) {
+        if (log.isInfoEnabled() && unreadable.tryAcquire()) {
+            HttpServletRequest request = currentRequest();
+            log.info("event=unreadable_body method={} endpoint={} field={} latencyMs={} suppressed={}",
+                    method(request), endpoint(request), field, latencyMs(request), unreadable.drainSuppressed());
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static String method(HttpServletRequest request) {
+        return request == null ? null : request.getMethod();
+    }
+
+    // 요청 경로 대신 매핑 패턴 (/validation/v4/items/{itemId}/edit) 을 사용함.
+    private static Object endpoint(HttpServletRequest request) {
+        return request == null ? null : request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+
+    private static Long latencyMs(HttpServletRequest request) {
+        if (request != null && request.getAttribute(START_NANOS) instanceof Long startNanos) {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+        return null;
+    }
+
+    // 로그를 실제로 쓸 때 toString 이 호출됨.
+    private record ErrorCodes(Errors errors) {
+
+        @Override
+        public String toString() {
+            StringBuilder codes = new StringBuilder();
+            for (ObjectError error : errors.getAllErrors()) {
+                if (!codes.isEmpty()) {
+                    codes.append(',');
+                }
+                if (error instanceof FieldError fieldError) {
+                    codes.append(fieldError.getField()).append(':');
+                }
+                codes.append(error.getCode());
+            }
+            return codes.toString();
+        }
+    }
+}
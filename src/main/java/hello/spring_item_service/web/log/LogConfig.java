@@ -0,0 +1,22 @@
+package hello.spring_item_service.web.log;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 상품 컨트롤러 요청에만 ItemEventLog 의 latency 측정 시작 시각을 기록함.
+@Configuration
+public class LogConfig implements WebMvcConfigurer {
+
+    private final ItemEventLog itemEventLog;
+
+    public LogConfig(ItemEventLog itemEventLog) {
+        this.itemEventLog = itemEventLog;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(itemEventLog)
+                .addPathPatterns("/basic/**", "/message/**", "/validation/**", "/api/**");
+    }
+}
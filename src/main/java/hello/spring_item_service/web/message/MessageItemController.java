@@ -1,32 +1,47 @@
 package hello.spring_item_service.web.message;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.ItemRowCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/message/items")
 @RequiredArgsConstructor
 public class MessageItemController {
 
     private final ItemRepository itemRepository;
+    private final ItemRowCache itemRowCache;
 
+//  REFACTOR : 상품 줄은 ItemRowCache 에 기억해 둔 HTML 을 이어 붙여 출력함. | 수정된 상품만 다시 렌더링함.
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("rows", itemRowCache.rows("message/items", page.getItems(), webRequest));
+        model.addAttribute("page", page);
         return "message/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "message/item";
     }
@@ -39,7 +54,7 @@ public class MessageItemController {
 
     @PostMapping("/add")
     public String addItem(@ModelAttribute Item item, RedirectAttributes redirectAttributes) {
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/message/items/{itemId}";
@@ -47,7 +62,7 @@ public class MessageItemController {
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "message/editForm";
     }
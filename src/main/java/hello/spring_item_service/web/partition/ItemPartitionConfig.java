@@ -0,0 +1,26 @@
+package hello.spring_item_service.web.partition;
+
+import hello.spring_item_service.domain.item.ItemPartitionProperties;
+import hello.spring_item_service.web.ItemSecretInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 파티션 사용 시 노드 간 호출 API (/internal/items/**) 에만 item.partition.secret 으로 ItemSecretInterceptor 를 적용함.
+@Configuration
+@ConditionalOnProperty(name = "item.partition.enabled", havingValue = "true")
+public class ItemPartitionConfig implements WebMvcConfigurer {
+
+    private final ItemPartitionProperties properties;
+
+    public ItemPartitionConfig(ItemPartitionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ItemSecretInterceptor(ItemPartitionProperties.SECRET_HEADER, properties.getSecret()))
+                .addPathPatterns("/internal/items", "/internal/items/**");
+    }
+}
@@ -0,0 +1,78 @@
+package hello.spring_item_service.web.partition;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemInventoryStats;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemSearchCond;
+import hello.spring_item_service.domain.item.ItemStats;
+import hello.spring_item_service.domain.item.ItemUpdateResult;
+import hello.spring_item_service.domain.item.ItemValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 파티션 노드 간 호출 API. | 다른 노드의 ItemRepository (RestItemNode) 만 호출함.
+ * id 로 찾는 작업은 이 노드가 맡은 id 로만 호출되므로 ItemRepository 가 이 노드에서 처리하고,
+ * page / search / stats / inventory 는 이 노드가 가진 Item 만 대상으로 함.
+ *
+ * 외부에 공개하는 API 가 아니므로 item.partition.secret 을 가진 노드의 요청만 처리함. | ItemPartitionInterceptor
+ * 수정 요청은 이 노드가 맡은 id 만 받음. | 다른 노드의 id 를 받으면 노드 사이에서 요청이 다시 전달되므로 400 으로 거절함.
+ */
+@RestController
+@RequestMapping("/internal/items")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "item.partition.enabled", havingValue = "true")
+public class ItemPartitionController {
+
+    private final ItemRepository itemRepository;
+
+    // 없는 id 이면 빈 본문 | 호출한 쪽에서 null 로 받음.
+    @GetMapping("/{itemId}")
+    public ItemValue item(@PathVariable Long itemId) {
+        return itemRepository.findById(itemId);
+    }
+
+    // 본문의 id 는 없거나 경로의 id 와 같아야 함.
+    @PutMapping("/{itemId}")
+    public ResponseEntity<Boolean> update(@PathVariable Long itemId, @RequestBody Item updateParam) {
+        if (!itemRepository.isLocal(itemId) || (updateParam.getId() != null && !updateParam.getId().equals(itemId))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemRepository.update(itemId, updateParam));
+    }
+
+    // 모든 Item 에 이 노드가 맡은 id 가 있어야 함.
+    @PutMapping
+    public ResponseEntity<ItemUpdateResult> updateAll(@RequestBody List<Item> updateParams, @RequestParam boolean allOrNothing) {
+        for (Item updateParam : updateParams) {
+            if (updateParam == null || updateParam.getId() == null || !itemRepository.isLocal(updateParam.getId())) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(itemRepository.updateAll(updateParams, allOrNothing));
+    }
+
+    @GetMapping("/page")
+    public List<ItemValue> page(@RequestParam long cursor, @RequestParam int limit) {
+        return itemRepository.findLocalPage(cursor, limit);
+    }
+
+    @PostMapping("/search")
+    public List<ItemValue> search(@RequestBody ItemSearchCond cond, @RequestParam int limit) {
+        return itemRepository.searchLocal(cond, limit);
+    }
+
+    @GetMapping("/stats")
+    public ItemStats stats() {
+        return itemRepository.localStats();
+    }
+
+    @GetMapping("/inventory")
+    public ItemInventoryStats inventory() {
+        return itemRepository.localInventory();
+    }
+}
@@ -0,0 +1,18 @@
+package hello.spring_item_service.web.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * non-blocking 상품 API 설정. | item.reactive.*
+ * enabled=true 이면 Tomcat (MVC) 과 별도로 port 에 Reactor Netty 서버를 띄워 /reactive/items 를 처리함.
+ */
+@Data
+@ConfigurationProperties("item.reactive")
+public class ItemReactiveProperties {
+
+    private boolean enabled = false;
+
+    // 0 이면 빈 포트
+    private int port = 8090;
+}
@@ -0,0 +1,291 @@
+package hello.spring_item_service.web.reactive;
+
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemSearchCond;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.domain.item.ReactiveItemRepository;
+import hello.spring_item_service.metrics.ValidationMetrics;
+import hello.spring_item_service.web.log.ItemEventLog;
+import hello.spring_item_service.web.validation.ItemApiError;
+import hello.spring_item_service.web.validation.ItemApiValidationProperties;
+import hello.spring_item_service.web.validation.ItemBatchResult;
+import hello.spring_item_service.web.validation.ItemBatchValidator;
+import hello.spring_item_service.web.validation.compiled.CompiledFormValidator;
+import hello.spring_item_service.web.validation.form.ItemSaveForm;
+import hello.spring_item_service.web.validation.form.ItemUpdateForm;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * non-blocking 상품 API. | /reactive/items, ReactiveItemServer 에서만 처리함.
+ * ValidationItemApiController 와 ValidationItemControllerV4 의 등록 / 수정 / 조회를 JSON 으로 제공하며,
+ * 검증 (CompiledFormValidator, @TotalPriceMin) 과 오류 응답 (ItemApiError 목록) 은 MVC API 와 같음.
+ *
+ * GET  /reactive/items             전체 상품을 id 순서로 | Accept: application/x-ndjson 이면 한 줄씩
+ * GET  /reactive/items/search      ItemSearchCond
+ * GET  /reactive/items/{itemId}    없으면 404
+ * POST /reactive/items/add         ItemSaveForm → 저장한 ItemValue
+ * POST /reactive/items/{itemId}/edit  ItemUpdateForm → 수정한 ItemValue, version 이 다르면 409 versionConflict
+ * POST /reactive/items/batch/add, /reactive/items/batch/edit  ItemBatchResult
+ *
+ * 쓰기는 leader (복제 미사용 포함) 에서만 처리함.
+ * follower 의 쓰기 요청은 503 으로 응답함. | leader 의 ReactiveItemServer 주소를 알 수 없으므로 MVC 처럼 307 로 보내지 않음.
+ */
+@Component
+@ConditionalOnProperty(name = "item.reactive.enabled", havingValue = "true")
+public class ReactiveItemHandler {
+
+    private static final ParameterizedTypeReference<List<ItemSaveForm>> SAVE_FORMS = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<ItemUpdateForm>> UPDATE_FORMS = new ParameterizedTypeReference<>() {
+    };
+
+    private final ReactiveItemRepository itemRepository;
+    private final ItemBatchValidator itemBatchValidator;
+    private final CompiledFormValidator compiledFormValidator;
+    private final ItemApiValidationProperties validationProperties;
+    private final ValidationMetrics validationMetrics;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ItemEventLog itemEventLog;
+
+    public ReactiveItemHandler(ReactiveItemRepository itemRepository, ItemBatchValidator itemBatchValidator,
+                               CompiledFormValidator compiledFormValidator, ItemApiValidationProperties validationProperties,
+                               ValidationMetrics validationMetrics, MessageSource messageSource,
+                               MessageCodesResolver messageCodesResolver, ItemEventLog itemEventLog) {
+        this.itemRepository = itemRepository;
+        this.itemBatchValidator = itemBatchValidator;
+        this.compiledFormValidator = compiledFormValidator;
+        this.validationProperties = validationProperties;
+        this.validationMetrics = validationMetrics;
+        this.messageSource = messageSource;
+        this.messageCodesResolver = messageCodesResolver;
+        this.itemEventLog = itemEventLog;
+    }
+
+    // 고정 경로를 {itemId} 보다 먼저 등록함.
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .path("/reactive/items", builder -> builder
+                        .GET("", this::items)
+                        .GET("/search", this::search)
+                        .POST("/add", this::addItem)
+                        .POST("/batch/add", this::addItems)
+                        .POST("/batch/edit", this::editItems)
+                        .GET("/{itemId}", this::item)
+                        .POST("/{itemId}/edit", this::edit)
+                        .filter(this::rejectReplicaWrites))
+                .build();
+    }
+
+    // follower 는 쓰기를 처리하지 않음. | 저장소가 IllegalStateException 을 던지기 전에 503 으로 응답함.
+    private Mono<ServerResponse> rejectReplicaWrites(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        if (itemRepository.isReplica() && !HttpMethod.GET.equals(request.method()) && !HttpMethod.HEAD.equals(request.method())) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return next.handle(request);
+    }
+
+    // List 로 모으지 않고 클라이언트가 읽는 만큼 저장소에서 읽어 씀.
+    Mono<ServerResponse> items(ServerRequest request) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(itemRepository.findAll(), ItemValue.class);
+    }
+
+    Mono<ServerResponse> search(ServerRequest request) {
+        return request.bind(ItemSearchCond.class)
+                .flatMap(cond -> ServerResponse.ok().body(itemRepository.search(cond), ItemValue.class));
+    }
+
+    Mono<ServerResponse> item(ServerRequest request) {
+        return itemRepository.findById(itemId(request))
+                .flatMap(item -> ServerResponse.ok().bodyValue(item))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> addItem(ServerRequest request) {
+        Locale locale = locale(request);
+        return request.bodyToMono(ItemSaveForm.class)
+                .flatMap(form -> {
+                    BindingResult bindingResult = validate(form);
+                    if (bindingResult.hasErrors()) {
+                        return badRequest(bindingResult, locale);
+                    }
+                    return itemRepository.save(new Item(form.getItemName(), form.getPrice(), form.getQuantity()))
+                            .flatMap(savedItem -> ServerResponse.ok().bodyValue(savedItem));
+                })
+                .switchIfEmpty(Mono.defer(() -> notReadable(null, locale)))
+                .onErrorResume(ReactiveItemHandler::isUnreadable, e -> notReadable(e, locale));
+    }
+
+//  version 이 다르면 덮어쓰지 않고 versionConflict 오류로 409 응답. | 낙관적 동시성 제어
+    Mono<ServerResponse> edit(ServerRequest request) {
+        long itemId = itemId(request);
+        Locale locale = locale(request);
+        return request.bodyToMono(ItemUpdateForm.class)
+                .flatMap(form -> {
+                    BindingResult bindingResult = validate(form);
+                    if (bindingResult.hasErrors()) {
+                        return badRequest(bindingResult, locale);
+                    }
+                    Item item = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+                    item.setVersion(form.getVersion());
+                    return itemRepository.update(itemId, item)
+                            .flatMap(result -> {
+                                if (!result.notFound().isEmpty()) {
+                                    return ServerResponse.notFound().build();
+                                }
+                                if (!result.conflicts().isEmpty()) {
+                                    return conflict(bindingResult, locale);
+                                }
+                                return ServerResponse.ok().bodyValue(result.items().getFirst());
+                            });
+                })
+                .switchIfEmpty(Mono.defer(() -> notReadable(null, locale)))
+                .onErrorResume(ReactiveItemHandler::isUnreadable, e -> notReadable(e, locale));
+    }
+
+    Mono<ServerResponse> addItems(ServerRequest request) {
+        boolean atomic = atomic(request);
+        Locale locale = locale(request);
+        return request.bodyToMono(SAVE_FORMS)
+                .flatMap(forms -> {
+                    Map<Integer, List<ObjectError>> errors = itemBatchValidator.validate(forms);
+                    if (atomic && !errors.isEmpty()) {
+                        itemEventLog.batchRejected(forms.size(), errors.size());
+                        return ServerResponse.ok().bodyValue(ItemBatchResult.rejected(forms.size(), errors, messageSource, locale));
+                    }
+                    List<Item> items = new ArrayList<>(forms.size() - errors.size());
+                    for (int i = 0; i < forms.size(); i++) {
+                        if (!errors.containsKey(i)) {
+                            ItemSaveForm form = forms.get(i);
+                            items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+                        }
+                    }
+                    return itemRepository.saveAll(items)
+                            .flatMap(savedItems -> ServerResponse.ok()
+                                    .bodyValue(ItemBatchResult.saved(forms.size(), atomic, savedItems, errors, messageSource, locale)));
+                })
+                .onErrorResume(ReactiveItemHandler::isUnreadable, e -> notReadable(e, locale));
+    }
+
+    Mono<ServerResponse> editItems(ServerRequest request) {
+        boolean atomic = atomic(request);
+        Locale locale = locale(request);
+        return request.bodyToMono(UPDATE_FORMS)
+                .flatMap(forms -> {
+                    Map<Integer, List<ObjectError>> errors = itemBatchValidator.validate(forms);
+                    if (atomic && !errors.isEmpty()) {
+                        itemEventLog.batchRejected(forms.size(), errors.size());
+                        return ServerResponse.ok().bodyValue(ItemBatchResult.rejected(forms.size(), errors, messageSource, locale));
+                    }
+                    List<Integer> positions = new ArrayList<>(forms.size() - errors.size());
+                    List<Item> updateParams = new ArrayList<>(forms.size() - errors.size());
+                    for (int i = 0; i < forms.size(); i++) {
+                        if (!errors.containsKey(i)) {
+                            ItemUpdateForm form = forms.get(i);
+                            Item item = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+                            item.setId(form.getId());
+                            item.setVersion(form.getVersion());
+                            positions.add(i);
+                            updateParams.add(item);
+                        }
+                    }
+                    return itemRepository.updateAll(updateParams, atomic)
+                            .flatMap(result -> ServerResponse.ok().bodyValue(
+                                    ItemBatchResult.updated(forms.size(), atomic, positions, updateParams, result, errors,
+                                            messageSource, locale)));
+                })
+                .onErrorResume(ReactiveItemHandler::isUnreadable, e -> notReadable(e, locale));
+    }
+
+    // MVC API 와 같이 item.api.validation.fail-fast 를 따름.
+    private BindingResult validate(Object form) {
+        long startNanos = System.nanoTime();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        (validationProperties.isFailFast() ? compiledFormValidator.failFast() : compiledFormValidator)
+                .validate(form, bindingResult);
+        validationMetrics.recordValidation(form.getClass(), startNanos);
+        return bindingResult;
+    }
+
+    private Mono<ServerResponse> badRequest(BindingResult bindingResult, Locale locale) {
+        itemEventLog.validationFailed(bindingResult);
+        return ServerResponse.badRequest().bodyValue(errors(bindingResult.getAllErrors(), locale));
+    }
+
+    private Mono<ServerResponse> conflict(BindingResult bindingResult, Locale locale) {
+        bindingResult.reject("versionConflict");
+        itemEventLog.validationFailed(bindingResult);
+        return ServerResponse.status(HttpStatus.CONFLICT).bodyValue(errors(bindingResult.getAllErrors(), locale));
+    }
+
+    // 본문이 없거나 JSON → 폼 변환 실패 | ValidationItemApiController.notReadable 과 같은 응답
+    private Mono<ServerResponse> notReadable(Throwable e, Locale locale) {
+        ObjectError error = ItemApiError.typeMismatch(mismatch(e), messageCodesResolver);
+        itemEventLog.unreadable(error instanceof FieldError fieldError ? fieldError.getField() : null);
+        return ServerResponse.badRequest().bodyValue(errors(List.of(error), locale));
+    }
+
+    private List<ItemApiError> errors(List<ObjectError> errors, Locale locale) {
+        return errors.stream().map(error -> ItemApiError.of(error, messageSource, locale)).toList();
+    }
+
+    // 본문 읽기 실패는 ServerWebInputException 으로 감싸져 옴. | 원인 중 MismatchedInputException 이 있으면 필드를 알 수 있음.
+    private static boolean isUnreadable(Throwable e) {
+        return e instanceof ServerWebInputException || e instanceof DecodingException;
+    }
+
+    private static Throwable mismatch(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MismatchedInputException) {
+                return cause;
+            }
+        }
+        return e;
+    }
+
+    private static long itemId(ServerRequest request) {
+        String itemId = request.pathVariable("itemId");
+        try {
+            return Long.parseLong(itemId);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("itemId 는 숫자여야 함. itemId=" + itemId);
+        }
+    }
+
+    private static boolean atomic(ServerRequest request) {
+        return request.queryParam("atomic").map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private static Locale locale(ServerRequest request) {
+        Locale locale = request.exchange().getLocaleContext().getLocale();
+        return locale != null ? locale : Locale.getDefault();
+    }
+}
@@ -0,0 +1,70 @@
+package hello.spring_item_service.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * non-blocking 상품 API 서버. | item.reactive.enabled=true
+ * 애플리케이션은 MVC (Tomcat) 로 실행되므로 WebFlux 자동 설정 대신 ReactiveItemHandler 의 route 만 Reactor Netty 로 띄움.
+ * 연결은 Netty event loop 가 처리하고 요청마다 스레드를 잡지 않으므로, 연결 수가 Tomcat 의 max-connections / 스레드 수에 묶이지 않음.
+ * JSON 은 MVC 와 같은 ObjectMapper 를 사용함.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "item.reactive.enabled", havingValue = "true")
+public class ReactiveItemServer implements SmartLifecycle {
+
+    private final ItemReactiveProperties properties;
+    private final HttpHandler httpHandler;
+    private volatile DisposableServer server;
+
+    public ReactiveItemServer(ItemReactiveProperties properties, ReactiveItemHandler handler, ObjectMapper objectMapper) {
+        this.properties = properties;
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        this.httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(properties.getPort())
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("reactive item API started. port={}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // 실제 포트 | item.reactive.port=0 이면 빈 포트
+    public int port() {
+        return server.port();
+    }
+}
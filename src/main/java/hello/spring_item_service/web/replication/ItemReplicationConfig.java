@@ -0,0 +1,32 @@
+package hello.spring_item_service.web.replication;
+
+import hello.spring_item_service.domain.item.ItemReplicationProperties;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.web.ItemSecretInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 복제 사용 시 상품 컨트롤러 요청에만 ItemReplicationInterceptor 를 적용함. | /internal/** 은 제외
+// 복제 API (/internal/replication/**) 에는 item.replication.secret 으로 ItemSecretInterceptor 를 적용함.
+@Configuration
+@ConditionalOnExpression("!'${item.replication.role:none}'.equalsIgnoreCase('none')")
+public class ItemReplicationConfig implements WebMvcConfigurer {
+
+    private final ItemRepository itemRepository;
+    private final ItemReplicationProperties properties;
+
+    public ItemReplicationConfig(ItemRepository itemRepository, ItemReplicationProperties properties) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ItemReplicationInterceptor(itemRepository, properties))
+                .addPathPatterns("/basic/**", "/message/**", "/validation/**", "/api/**");
+        registry.addInterceptor(new ItemSecretInterceptor(ItemReplicationProperties.SECRET_HEADER, properties.getSecret()))
+                .addPathPatterns("/internal/replication/**");
+    }
+}
@@ -0,0 +1,46 @@
+package hello.spring_item_service.web.replication;
+
+import hello.spring_item_service.domain.item.ItemReplicationBatch;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * leader 복제 API. | follower (ItemReplicaFollower) 만 호출함.
+ * 외부에 공개하는 API 가 아니므로 item.replication.secret 이 같은 요청만 처리함. | ItemReplicationConfig 참고
+ * changes 는 요청 스레드를 최대 MAX_WAIT_MILLIS 동안 잡으므로 인증 전에는 처리하지 않음.
+ */
+@RestController
+@RequestMapping("/internal/replication")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "item.replication.role", havingValue = "leader")
+public class ItemReplicationController {
+
+    // 한 번에 보내는 최대 변경 수 / 새 변경을 기다리는 최대 시간
+    private static final int MAX_CHANGES = 1_000;
+    private static final long MAX_WAIT_MILLIS = 10_000;
+
+    private final ItemRepository itemRepository;
+
+    // long polling | 새 변경이 없으면 waitMillis 동안 요청 스레드에서 기다림.
+    @GetMapping("/changes")
+    public ItemReplicationBatch changes(@RequestParam long epoch, @RequestParam long after,
+                                        @RequestParam int max, @RequestParam long waitMillis) throws InterruptedException {
+        return itemRepository.changesAfter(epoch, after, Math.min(max, MAX_CHANGES),
+                Duration.ofMillis(Math.min(waitMillis, MAX_WAIT_MILLIS)));
+    }
+
+    // reset 후 전체 Item 을 id 순서로 받음.
+    @GetMapping("/snapshot")
+    public List<ItemValue> snapshot(@RequestParam long cursor, @RequestParam int limit) {
+        return itemRepository.findLocalPage(cursor, Math.min(limit, MAX_CHANGES));
+    }
+}
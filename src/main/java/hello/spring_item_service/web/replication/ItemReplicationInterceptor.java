@@ -0,0 +1,87 @@
+package hello.spring_item_service.web.replication;
+
+import hello.spring_item_service.domain.item.ItemReplicationProperties;
+import hello.spring_item_service.domain.item.ItemRepository;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 복제 사용 시 상품 요청 처리.
+ * - follower : GET / HEAD 외의 요청은 307 로 leader 에 보냄. | 307 은 method 와 본문을 그대로 다시 보냄.
+ * - read-your-writes : leader 는 쓰기 응답에 "epoch.변경 번호" 쿠키를 남기고,
+ *   follower 는 그 변경이 반영될 때까지 최대 readYourWritesTimeout 동안 GET 을 기다림.
+ */
+@Slf4j
+public class ItemReplicationInterceptor implements HandlerInterceptor {
+
+    static final String COOKIE = "item-replication";
+
+    private final ItemRepository itemRepository;
+    private final ItemReplicationProperties properties;
+
+    public ItemReplicationInterceptor(ItemRepository itemRepository, ItemReplicationProperties properties) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!itemRepository.isReplica()) {
+            return true;
+        }
+        if (!isRead(request)) {
+            String query = request.getQueryString();
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION,
+                    properties.getLeader().resolve(request.getRequestURI()) + (query == null ? "" : "?" + query));
+            return false;
+        }
+        if (properties.isReadYourWrites()) {
+            awaitWrite(WebUtils.getCookie(request, COOKIE));
+        }
+        return true;
+    }
+
+    // redirect 는 postHandle 뒤 화면 처리에서 응답을 보내므로 이때 쿠키를 추가할 수 있음. | 이미 응답한 @ResponseBody 는 제외
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (properties.getRole() != ItemReplicationProperties.Role.LEADER || !properties.isReadYourWrites()
+                || isRead(request) || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE, itemRepository.epoch() + "." + itemRepository.lastChangeSequence());
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        response.addCookie(cookie);
+    }
+
+    private void awaitWrite(Cookie cookie) throws InterruptedException {
+        if (cookie == null) {
+            return;
+        }
+        String[] value = cookie.getValue().split("\\.");
+        if (value.length != 2) {
+            return;
+        }
+        try {
+            long epoch = Long.parseLong(value[0]);
+            long sequence = Long.parseLong(value[1]);
+            if (!itemRepository.awaitReplicated(epoch, sequence, properties.getReadYourWritesTimeout())) {
+                log.debug("read-your-writes timeout. epoch={} sequence={}", epoch, sequence);
+            }
+        } catch (NumberFormatException e) {
+            log.debug("invalid replication cookie. value={}", cookie.getValue());
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+}
@@ -0,0 +1,45 @@
+package hello.spring_item_service.web.validation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+import java.util.Locale;
+
+/**
+ * JSON API 검증 오류 응답. | ObjectError 의 코드 목록 / 인자 대신 대표 코드, 필드, 메시지만 담음.
+ * code 는 NotBlank, Range, totalPriceMin, typeMismatch 처럼 오류 종류, field 는 전체 오류이면 생략함.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ItemApiError(String code, String field, String message) {
+
+    // 메시지가 없으면 기본 메시지, 그것도 없으면 코드를 사용함.
+    public static ItemApiError of(ObjectError error, MessageSource messageSource, Locale locale) {
+        String defaultMessage = error.getDefaultMessage() != null ? error.getDefaultMessage() : error.getCode();
+        String message = messageSource.getMessage(
+                new DefaultMessageSourceResolvable(error.getCodes(), error.getArguments(), defaultMessage), locale);
+        String field = error instanceof FieldError fieldError ? fieldError.getField() : null;
+        return new ItemApiError(error.getCode(), field, message);
+    }
+
+    /**
+     * JSON → 폼 변환 실패 오류. | Jackson 이 첫 번째 오류에서 멈추므로 오류는 항상 하나
+     * 어느 필드에서 실패했는지 알 수 있으면 FieldError, 아니면 (JSON 형식 오류 등) ObjectError
+     * @param cause 변환 실패 원인 | MVC 는 HttpMessageNotReadableException, WebFlux 는 DecodingException 의 cause
+     */
+    public static ObjectError typeMismatch(Throwable cause, MessageCodesResolver messageCodesResolver) {
+        // 목록 요청이면 path 는 [index, 필드]
+        if (cause instanceof MismatchedInputException mismatch && !mismatch.getPath().isEmpty()) {
+            String field = mismatch.getPath().get(mismatch.getPath().size() - 1).getFieldName();
+            if (field != null) {
+                return new FieldError("item", field, null, true,
+                        messageCodesResolver.resolveMessageCodes("typeMismatch", "item", field, mismatch.getTargetType()), null, null);
+            }
+        }
+        return new ObjectError("item", messageCodesResolver.resolveMessageCodes("typeMismatch", "item"), null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package hello.spring_item_service.web.validation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JSON 상품 API 검증 설정. | item.api.validation.*
+ * failFast=true 이면 첫 번째 검증 오류에서 멈추고 그 오류 하나만 응답함.
+ */
+@Data
+@ConfigurationProperties("item.api.validation")
+public class ItemApiValidationProperties {
+
+    private boolean failFast = false;
+}
@@ -0,0 +1,91 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemUpdateResult;
+import hello.spring_item_service.domain.item.ItemValue;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 배치 등록 / 수정 결과.
+ * items 는 실제로 반영된 ItemValue, errors 는 ItemApiError 목록으로, 둘 다 요청 목록 위치(index) 를 키로 사용함.
+ * 한 위치는 items / errors 중 한쪽에만 있고, atomic 요청이 거절되었으면 items 는 비어 있음.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemBatchResult {
+
+    private final int requested;
+    private final boolean atomic;
+    private final Map<Integer, ItemValue> items;
+    private final Map<Integer, List<ItemApiError>> errors;
+
+    // atomic 요청에 검증 오류가 있어 아무것도 반영하지 않은 결과
+    public static ItemBatchResult rejected(int requested, Map<Integer, List<ObjectError>> errors,
+                                           MessageSource messageSource, Locale locale) {
+        return new ItemBatchResult(requested, true, Map.of(), apiErrors(errors, messageSource, locale));
+    }
+
+    /**
+     * saveAll 결과를 요청 목록 기준으로 바꿈.
+     * @param savedItems 오류가 없는 요청을 순서대로 저장한 결과
+     */
+    public static ItemBatchResult saved(int requested, boolean atomic, List<ItemValue> savedItems,
+                                        Map<Integer, List<ObjectError>> errors, MessageSource messageSource, Locale locale) {
+        Map<Integer, ItemValue> items = new TreeMap<>();
+        int saved = 0;
+        for (int i = 0; i < requested && saved < savedItems.size(); i++) {
+            if (!errors.containsKey(i)) {
+                items.put(i, savedItems.get(saved++));
+            }
+        }
+        return new ItemBatchResult(requested, atomic, items, apiErrors(errors, messageSource, locale));
+    }
+
+    /**
+     * updateAll 결과를 요청 목록 기준으로 바꿈.
+     * 없는 상품은 notFound, version 이 다른 상품은 versionConflict 오류로 errors 에 추가함.
+     * @param positions updateParams 각각의 요청 목록 위치
+     */
+    public static ItemBatchResult updated(int requested, boolean atomic, List<Integer> positions, List<Item> updateParams,
+                                          ItemUpdateResult result, Map<Integer, List<ObjectError>> errors,
+                                          MessageSource messageSource, Locale locale) {
+        for (int i : result.notFound()) {
+            errors.put(positions.get(i), List.of(new ObjectError("item",
+                    new String[]{"notFound.item", "notFound"}, new Object[]{updateParams.get(i).getId()}, null)));
+        }
+        for (int i : result.conflicts()) {
+            errors.put(positions.get(i), List.of(new ObjectError("item",
+                    new String[]{"versionConflict.item", "versionConflict"}, new Object[]{updateParams.get(i).getId()}, null)));
+        }
+        Map<Integer, ItemValue> items = new TreeMap<>();
+        for (int i = 0; i < result.items().size(); i++) {
+            if (result.items().get(i) != null) {
+                items.put(positions.get(i), result.items().get(i));
+            }
+        }
+        return new ItemBatchResult(requested, atomic, items, apiErrors(errors, messageSource, locale));
+    }
+
+    private static Map<Integer, List<ItemApiError>> apiErrors(Map<Integer, List<ObjectError>> errors,
+                                                              MessageSource messageSource, Locale locale) {
+        Map<Integer, List<ItemApiError>> apiErrors = new TreeMap<>();
+        errors.forEach((position, objectErrors) -> {
+            List<ItemApiError> converted = new ArrayList<>(objectErrors.size());
+            for (ObjectError error : objectErrors) {
+                converted.add(ItemApiError.of(error, messageSource, locale));
+            }
+            apiErrors.put(position, converted);
+        });
+        return apiErrors;
+    }
+}
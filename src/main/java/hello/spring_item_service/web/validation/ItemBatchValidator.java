@@ -0,0 +1,61 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.metrics.ValidationMetrics;
+import hello.spring_item_service.web.validation.compiled.CompiledFormValidator;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 배치 요청의 폼 목록을 한 번에 검증함.
+ * 폼마다 CompiledFormValidator (필드 제약 조건 + @TotalPriceMin) 를 적용하고, 오류가 있는 폼만 목록 위치(index) 별로 모아서 반환함.
+ * 오류 코드는 단건 검증과 같도록 objectName 을 "item" 으로 사용함.
+ */
+@Component
+public class ItemBatchValidator {
+
+    private final CompiledFormValidator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ValidationMetrics metrics;
+
+    public ItemBatchValidator(CompiledFormValidator validator, MessageCodesResolver messageCodesResolver,
+                              ValidationMetrics metrics) {
+        this.validator = validator;
+        this.messageCodesResolver = messageCodesResolver;
+        this.metrics = metrics;
+    }
+
+    public Map<Integer, List<ObjectError>> validate(List<?> forms) {
+        Map<Integer, List<ObjectError>> errors = new TreeMap<>();
+        for (int i = 0; i < forms.size(); i++) {
+            BindingResult bindingResult = validate(forms.get(i));
+            if (bindingResult.hasErrors()) {
+                errors.put(i, bindingResult.getAllErrors());
+            }
+        }
+        return errors;
+    }
+
+    private BindingResult validate(Object form) {
+        if (form == null) {
+            MapBindingResult bindingResult = new MapBindingResult(Map.of(), "item");
+            bindingResult.setMessageCodesResolver(messageCodesResolver);
+            bindingResult.reject("required");
+            return bindingResult;
+        }
+
+        long startNanos = System.nanoTime();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        validator.validate(form, bindingResult);
+        metrics.recordValidation(form.getClass(), startNanos);
+        return bindingResult;
+    }
+}
@@ -31,7 +31,7 @@ public class ItemValidator implements Validator {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10000){
                 errors.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
             }
@@ -1,28 +1,126 @@
 package hello.spring_item_service.web.validation;
 
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemSearchCond;
+import hello.spring_item_service.domain.item.ItemUpdateResult;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.log.ItemEventLog;
+import hello.spring_item_service.web.validation.compiled.CompiledFormValidator;
 import hello.spring_item_service.web.validation.form.ItemSaveForm;
-import lombok.extern.slf4j.Slf4j;
+import hello.spring_item_service.web.validation.form.ItemUpdateForm;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
-@Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    private final ItemRepository itemRepository;
+    private final ItemBatchValidator itemBatchValidator;
+    private final CompiledFormValidator compiledFormValidator;
+    private final ItemApiValidationProperties validationProperties;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ItemEventLog itemEventLog;
+
+//  REFACTOR : @RequestBody 폼도 CompiledFormValidator 로 검증. | 단건 등록에도 totalPriceMin 이 적용됨.
+//  item.api.validation.fail-fast=true 이면 첫 번째 오류에서 검증을 멈춤.
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        compiledFormValidator.applyTo(binder, validationProperties.isFailFast());
+    }
+
+//  REFACTOR : 검증 오류는 ObjectError 대신 ItemApiError 목록으로 400 응답.
+//  REFACTOR : 요청마다 남기던 info 로그 대신 검증 실패 시에만 ItemEventLog 이벤트를 기록함.
     @PostMapping("/add")
-    public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
-        log.info("API 컨트롤러 호출");
+    public ResponseEntity<Object> addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult, Locale locale) {
         if (bindingResult.hasErrors()) {
-            log.info("검증 오류 발생 errors={}", bindingResult);
-            return bindingResult.getAllErrors();
+            itemEventLog.validationFailed(bindingResult);
+            List<ItemApiError> errors = bindingResult.getAllErrors().stream()
+                    .map(error -> ItemApiError.of(error, messageSource, locale))
+                    .toList();
+            return ResponseEntity.badRequest().body(errors);
+        }
+
+        return ResponseEntity.ok(form);
+    }
+
+//  PLUS : 여러 상품을 한 번에 등록. | 전체를 한 번에 검증하고, 통과한 상품만 한 번에 저장함.
+//  atomic=true 이면 하나라도 오류가 있을 때 아무것도 저장하지 않음.
+//  결과 / 오류는 단건 API 와 같은 ItemApiError 형식으로, 요청 목록 위치별로 응답함.
+    @PostMapping("/batch/add")
+    public ItemBatchResult addItems(@RequestBody List<ItemSaveForm> forms,
+                                    @RequestParam(defaultValue = "false") boolean atomic, Locale locale) {
+        Map<Integer, List<ObjectError>> errors = itemBatchValidator.validate(forms);
+        if (atomic && !errors.isEmpty()) {
+            itemEventLog.batchRejected(forms.size(), errors.size());
+            return ItemBatchResult.rejected(forms.size(), errors, messageSource, locale);
+        }
+
+        List<Item> items = new ArrayList<>(forms.size() - errors.size());
+        for (int i = 0; i < forms.size(); i++) {
+            if (!errors.containsKey(i)) {
+                ItemSaveForm form = forms.get(i);
+                items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+            }
         }
+        return ItemBatchResult.saved(forms.size(), atomic, itemRepository.saveAll(items), errors, messageSource, locale);
+    }
+
+//  PLUS : 여러 상품을 한 번에 수정. | 없는 상품은 notFound, version 이 다른 상품은 versionConflict 오류로 처리함.
+    @PostMapping("/batch/edit")
+    public ItemBatchResult editItems(@RequestBody List<ItemUpdateForm> forms,
+                                     @RequestParam(defaultValue = "false") boolean atomic, Locale locale) {
+        Map<Integer, List<ObjectError>> errors = itemBatchValidator.validate(forms);
+        if (atomic && !errors.isEmpty()) {
+            itemEventLog.batchRejected(forms.size(), errors.size());
+            return ItemBatchResult.rejected(forms.size(), errors, messageSource, locale);
+        }
+
+        List<Integer> positions = new ArrayList<>(forms.size() - errors.size());
+        List<Item> updateParams = new ArrayList<>(forms.size() - errors.size());
+        for (int i = 0; i < forms.size(); i++) {
+            if (!errors.containsKey(i)) {
+                ItemUpdateForm form = forms.get(i);
+                Item item = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+                item.setId(form.getId());
+                item.setVersion(form.getVersion());
+                positions.add(i);
+                updateParams.add(item);
+            }
+        }
+
+        ItemUpdateResult result = itemRepository.updateAll(updateParams, atomic);
+        return ItemBatchResult.updated(forms.size(), atomic, positions, updateParams, result, errors, messageSource, locale);
+    }
+
+    @GetMapping("/search")
+    public List<ItemValue> search(@ModelAttribute ItemSearchCond cond) {
+        return itemRepository.search(cond, ItemRepository.MAX_PAGE_SIZE);
+    }
 
-        log.info("성공 로직 실행");
-        return form;
+//  PLUS : JSON → 폼 변환 실패 (숫자 자리에 문자 등) 는 BindingResult 를 만들지 않고 바로 400 응답.
+//  Jackson 이 첫 번째 오류에서 멈추므로 오류는 항상 하나. | 기본 /error 포워딩을 거치지 않음.
+    @ExceptionHandler
+    public ResponseEntity<List<ItemApiError>> notReadable(HttpMessageNotReadableException e, Locale locale) {
+        ObjectError error = ItemApiError.typeMismatch(e.getCause(), messageCodesResolver);
+        itemEventLog.unreadable(error instanceof FieldError fieldError ? fieldError.getField() : null);
+        return ResponseEntity.badRequest().body(List.of(ItemApiError.of(error, messageSource, locale)));
     }
 }
@@ -1,18 +1,22 @@
 package hello.spring_item_service.web.validation;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.log.ItemEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.View;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -22,18 +26,28 @@ import java.util.Map;
 public class ValidationItemControllerV1 {
 
     private final ItemRepository itemRepository;
+    private final ItemEventLog itemEventLog;
     private final View error;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, WebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v1/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v1/item";
     }
@@ -65,7 +79,7 @@ public class ValidationItemControllerV1 {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10000){
                 errors.put("globalError", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 : " + resultPrice);
             }
@@ -73,13 +87,13 @@ public class ValidationItemControllerV1 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(!errors.isEmpty()){
-            log.info("error = {}", errors);
+            itemEventLog.validationFailed(errors);
             model.addAttribute("errors", errors);
             return "validation/v1/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v1/items/{itemId}";
@@ -87,7 +101,7 @@ public class ValidationItemControllerV1 {
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v1/editForm";
     }
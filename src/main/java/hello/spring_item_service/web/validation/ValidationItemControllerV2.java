@@ -1,7 +1,11 @@
 package hello.spring_item_service.web.validation;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.log.ItemEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -14,10 +18,9 @@ import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/validation/v2/items")
@@ -25,24 +28,39 @@ import java.util.List;
 public class ValidationItemControllerV2 {
 
     private final ItemRepository itemRepository;
+    private final ItemEventLog itemEventLog;
     private final ItemValidator itemValidator;
 
 //  REFACTOR : 해당 컨트롤러에 검증기 추가.
-    @InitBinder
+//  "item" 모델에만 적용 | 목록 화면의 page 모델 등 다른 객체에는 검증기를 붙이지 않음.
+//  상세 / 수정 화면을 그릴 때의 "item" 은 조회 결과 ItemValue 이므로 검증기를 붙이지 않음.
+    @InitBinder("item")
     public void initBinder(WebDataBinder binder) {
-        binder.addValidators(itemValidator);
+        Object target = binder.getTarget();
+        if (target == null || itemValidator.supports(target.getClass())) {
+            binder.addValidators(itemValidator);
+        }
     }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, WebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v2/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v2/item";
     }
@@ -75,7 +93,7 @@ public class ValidationItemControllerV2 {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10_000){
                 bindingResult.addError(new ObjectError("item", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 : " + resultPrice));
             }
@@ -83,12 +101,12 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -119,7 +137,7 @@ public class ValidationItemControllerV2 {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10_000){
                 bindingResult.addError(new ObjectError("item", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 : " + resultPrice));
             }
@@ -127,12 +145,12 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -165,7 +183,7 @@ public class ValidationItemControllerV2 {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10_000){
                 bindingResult.addError(new ObjectError(
                         "item", new String[]{"totalPriceMin"},
@@ -176,12 +194,12 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -193,8 +211,7 @@ public class ValidationItemControllerV2 {
 //    @PostMapping("/add")
     public String addItemV4(@ModelAttribute Item item, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
-        log.info("bindindResult : {}", bindingResult.getObjectName());
-        log.info("bindingResult : {}", bindingResult.getTarget());
+        log.debug("bindingResult objectName={} target={}", bindingResult.getObjectName(), bindingResult.getTarget());
 
         // 검증 로직
         ValidationUtils.rejectIfEmptyOrWhitespace(bindingResult, "itemName", "required");
@@ -212,7 +229,7 @@ public class ValidationItemControllerV2 {
 
         // 특정 필드가 아닌 복합 룰 검증
         if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if(resultPrice < 10000){
                 bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
             }
@@ -220,12 +237,12 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -240,12 +257,12 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -256,12 +273,12 @@ public class ValidationItemControllerV2 {
     public String addItemV6(@Validated @ModelAttribute Item item, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v2/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -269,7 +286,7 @@ public class ValidationItemControllerV2 {
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v2/editForm";
     }
@@ -1,9 +1,13 @@
 package hello.spring_item_service.web.validation;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
 import hello.spring_item_service.domain.item.SaveCheck;
 import hello.spring_item_service.domain.item.UpdateCheck;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.log.ItemEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -11,10 +15,9 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Slf4j
 @Controller
 @RequestMapping("/validation/v3/items")
@@ -22,17 +25,27 @@ import java.util.List;
 public class ValidationItemControllerV3 {
 
     private final ItemRepository itemRepository;
+    private final ItemEventLog itemEventLog;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, WebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v3/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v3/item";
     }
@@ -49,7 +62,7 @@ public class ValidationItemControllerV3 {
     public String addItem(@Validated(SaveCheck.class) @ModelAttribute Item item, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
         //특정 필드 예외가 아닌 전체 예외
         if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if (resultPrice < 10000) {
                 bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
             }
@@ -57,12 +70,12 @@ public class ValidationItemControllerV3 {
 
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v3/addForm";
         }
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v3/items/{itemId}";
@@ -70,7 +83,7 @@ public class ValidationItemControllerV3 {
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v3/editForm";
     }
@@ -80,14 +93,14 @@ public class ValidationItemControllerV3 {
     public String edit(@PathVariable Long itemId, @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
         //특정 필드 예외가 아닌 전체 예외
         if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
+            long resultPrice = (long) item.getPrice() * item.getQuantity();
             if (resultPrice < 10000) {
                 bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
             }
         }
 
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v3/editForm";
         }
 
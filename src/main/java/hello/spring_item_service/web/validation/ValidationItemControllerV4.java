@@ -1,9 +1,16 @@
 package hello.spring_item_service.web.validation;
 
 import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemPage;
 import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemSearchCond;
+import hello.spring_item_service.domain.item.ItemValue;
 import hello.spring_item_service.domain.item.SaveCheck;
 import hello.spring_item_service.domain.item.UpdateCheck;
+import hello.spring_item_service.web.ItemConditionalGet;
+import hello.spring_item_service.web.ItemRowCache;
+import hello.spring_item_service.web.log.ItemEventLog;
+import hello.spring_item_service.web.validation.compiled.CompiledFormValidator;
 import hello.spring_item_service.web.validation.form.ItemSaveForm;
 import hello.spring_item_service.web.validation.form.ItemUpdateForm;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +19,15 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
 
+
 // REFACTOR : groups 사용하지 않는 방향으로 로직 수정.
 @Slf4j
 @Controller
@@ -25,17 +36,44 @@ import java.util.List;
 public class ValidationItemControllerV4 {
 
     private final ItemRepository itemRepository;
+    private final ItemRowCache itemRowCache;
+    private final ItemEventLog itemEventLog;
+    private final CompiledFormValidator compiledFormValidator;
+
+//  REFACTOR : 폼 검증을 CompiledFormValidator 로 변경. | 기동 시 만들어 둔 검사만 실행하고, totalPriceMin 도 폼의 @TotalPriceMin 으로 함께 검증함.
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        compiledFormValidator.applyTo(binder);
+    }
 
+//  REFACTOR : 상품 줄은 ItemRowCache 에 기억해 둔 HTML 을 이어 붙여 출력함. | 수정된 상품만 다시 렌더링함.
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@RequestParam(required = false) Long cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemConditionalGet.items(webRequest, itemRepository)) {
+            return null;
+        }
+        ItemPage page = itemRepository.findPage(cursor, size);
+        model.addAttribute("rows", itemRowCache.rows("validation/v4/items", page.getItems(), webRequest));
+        model.addAttribute("page", page);
+        return "validation/v4/items";
+    }
+
+//  PLUS : 상품명 접두어 / 가격 범위 검색. | 보조 인덱스를 사용하므로 전체 목록을 조회하지 않음.
+    @GetMapping("/search")
+    public String search(@ModelAttribute("cond") ItemSearchCond cond, Model model) {
+        List<ItemValue> items = itemRepository.search(cond, ItemRepository.MAX_PAGE_SIZE);
         model.addAttribute("items", items);
         return "validation/v4/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+    public String item(@PathVariable long itemId, Model model, WebRequest webRequest) {
+        ItemValue item = itemRepository.findById(itemId);
+        if (ItemConditionalGet.item(webRequest, item)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v4/item";
     }
@@ -50,17 +88,9 @@ public class ValidationItemControllerV4 {
 //  @Validated | validation 적용 애노테이션
     @PostMapping("/add")
     public String addItem(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
-        // 특정 필드 예외가 아닌 전체 예외
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
-
         // 검증에 실패한 경우 | 다시 view template 으로 이동.
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v4/addForm";
         }
 
@@ -71,7 +101,7 @@ public class ValidationItemControllerV4 {
         item.setQuantity(form.getQuantity());
 
         // 검증에 성공한 경우
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:validation/v4/items/{itemId}";
@@ -79,24 +109,17 @@ public class ValidationItemControllerV4 {
 
     @GetMapping("/{itemId}/edit")
     public String editForm(@PathVariable Long itemId, Model model) {
-        Item item = itemRepository.findById(itemId);
+        ItemValue item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v4/editForm";
     }
 
 //  REFACTOR : 수정 시에도 validation 검증하도록 로직 수정.
+//  REFACTOR : version 이 다르면 수정하지 않고 versionConflict 오류 표시. | 낙관적 동시성 제어
     @PostMapping("/{itemId}/edit")
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
-        //특정 필드 예외가 아닌 전체 예외
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
-
         if(bindingResult.hasErrors()){
-            log.info("error = {}", bindingResult);
+            itemEventLog.validationFailed(bindingResult);
             return "validation/v4/editForm";
         }
 
@@ -105,8 +128,22 @@ public class ValidationItemControllerV4 {
         item.setItemName(form.getItemName());
         item.setPrice(form.getPrice());
         item.setQuantity(form.getQuantity());
-
-        itemRepository.update(itemId, item);
+        item.setVersion(form.getVersion());
+
+        // 수정 화면을 연 뒤 다른 수정이 먼저 반영된 경우 | 덮어쓰지 않고 다시 수정 화면으로 이동.
+        // 화면에는 지금 저장된 값과 version 을 보여줌. | 확인 후 다시 저장하면 그 version 으로 수정됨.
+        if (!itemRepository.update(itemId, item)) {
+            bindingResult.reject("versionConflict");
+            itemEventLog.validationFailed(bindingResult);
+            ItemValue current = itemRepository.findById(itemId);
+            if (current != null) {
+                form.setItemName(current.getItemName());
+                form.setPrice(current.getPrice());
+                form.setQuantity(current.getQuantity());
+                form.setVersion(current.getVersion());
+            }
+            return "validation/v4/editForm";
+        }
         return "redirect:validation/v4/items/{itemId}";
     }
 
@@ -0,0 +1,114 @@
+package hello.spring_item_service.web.validation.compiled;
+
+import hello.spring_item_service.web.validation.form.TotalPriceMin;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import org.springframework.validation.Errors;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 폼 클래스 하나의 검증 순서를 고정해 둔 것.
+ * 필드는 선언 순서, 같은 필드의 제약 조건은 애노테이션 이름 순으로 검사하고, 마지막에 @TotalPriceMin 을 검사함.
+ */
+final class CompiledForm {
+
+    private final PropertyCheck[] properties;
+    // @TotalPriceMin 이 없으면 null
+    private final TotalPriceMinCheck totalPriceMin;
+
+    private CompiledForm(PropertyCheck[] properties, TotalPriceMinCheck totalPriceMin) {
+        this.properties = properties;
+        this.totalPriceMin = totalPriceMin;
+    }
+
+    /**
+     * Bean Validation 메타데이터 (Default group) 를 읽어 검사 목록을 만듦.
+     * 클래스 레벨 제약 조건, @Valid 중첩 검증은 지원하지 않음.
+     */
+    static CompiledForm compile(Class<?> formClass, Validator validator, MessageInterpolator interpolator) {
+        BeanDescriptor bean = validator.getConstraintsForClass(formClass);
+        if (!bean.getConstraintDescriptors().isEmpty()) {
+            throw new IllegalStateException("클래스 레벨 Bean Validation 제약 조건은 지원하지 않음. form=" + formClass.getName());
+        }
+
+        List<String> declared = Arrays.stream(formClass.getDeclaredFields()).map(Field::getName).toList();
+        List<PropertyCheck> properties = new ArrayList<>();
+        for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+            String name = property.getPropertyName();
+            if (property.isCascaded()) {
+                throw new IllegalStateException("@Valid 중첩 검증은 지원하지 않음. form=" + formClass.getName() + " property=" + name);
+            }
+            Class<?> type = PropertyGetter.type(formClass, name);
+            FieldConstraint[] constraints = property.findConstraints()
+                    .unorderedAndMatchingGroups(Default.class)
+                    .getConstraintDescriptors().stream()
+                    .sorted(Comparator.comparing((ConstraintDescriptor<?> descriptor) ->
+                            descriptor.getAnnotation().annotationType().getSimpleName()))
+                    .map(descriptor -> FieldConstraint.compile(formClass, name, type, descriptor, interpolator))
+                    .toArray(FieldConstraint[]::new);
+            if (constraints.length > 0) {
+                properties.add(new PropertyCheck(PropertyGetter.of(formClass, name), constraints));
+            }
+        }
+        properties.sort(Comparator.comparingInt(check -> declared.indexOf(check.constraints()[0].field())));
+
+        TotalPriceMin totalPriceMin = formClass.getAnnotation(TotalPriceMin.class);
+        return new CompiledForm(properties.toArray(PropertyCheck[]::new),
+                totalPriceMin == null ? null : TotalPriceMinCheck.compile(formClass, totalPriceMin));
+    }
+
+    /**
+     * @param failFast true 이면 첫 번째 오류를 기록하고 바로 멈춤.
+     */
+    void validate(Object target, Errors errors, boolean failFast) {
+        for (PropertyCheck property : properties) {
+            Object value = property.getter().apply(target);
+            for (FieldConstraint constraint : property.constraints()) {
+                if (!constraint.isValid(value)) {
+                    constraint.reject(value, errors);
+                    if (failFast) {
+                        return;
+                    }
+                }
+            }
+        }
+        if (totalPriceMin != null) {
+            totalPriceMin.validate(target, errors);
+        }
+    }
+
+    private record PropertyCheck(Function<Object, Object> getter, FieldConstraint[] constraints) {
+    }
+
+    // 특정 필드 예외가 아닌 전체 예외 | 가격, 수량이 모두 있을 때만 검사함.
+    private record TotalPriceMinCheck(int min, Function<Object, Object> price, Function<Object, Object> quantity) {
+
+        static TotalPriceMinCheck compile(Class<?> formClass, TotalPriceMin annotation) {
+            if (PropertyGetter.type(formClass, annotation.price()) != Integer.class
+                    || PropertyGetter.type(formClass, annotation.quantity()) != Integer.class) {
+                throw new IllegalStateException("@TotalPriceMin 의 가격 / 수량은 Integer property 이어야 함. form=" + formClass.getName());
+            }
+            return new TotalPriceMinCheck(annotation.value(),
+                    PropertyGetter.of(formClass, annotation.price()), PropertyGetter.of(formClass, annotation.quantity()));
+        }
+
+        void validate(Object target, Errors errors) {
+            if (price.apply(target) instanceof Integer priceValue && quantity.apply(target) instanceof Integer quantityValue) {
+                long resultPrice = (long) priceValue * quantityValue;
+                if (resultPrice < min) {
+                    errors.reject("totalPriceMin", new Object[]{min, resultPrice}, null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package hello.spring_item_service.web.validation.compiled;
+
+import hello.spring_item_service.web.validation.form.ItemSaveForm;
+import hello.spring_item_service.web.validation.form.ItemUpdateForm;
+import jakarta.validation.ValidatorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 폼 클래스의 제약 조건을 기동 시 한 번만 읽어 검사 객체로 만들어 두고 사용하는 Validator.
+ * 검증할 때는 메타데이터 조회 / 리플렉션 없이 미리 만든 getter 와 검사만 실행하며, 통과하면 아무 객체도 만들지 않음.
+ * 오류 코드 / 인자 / 기본 메시지는 Bean Validation (SpringValidatorAdapter) 과 같으므로 errors.properties 를 그대로 사용함.
+ *
+ * 지원 제약 조건 : @NotNull, @NotBlank, @Range, @Min, @Max (정수 타입) + 클래스의 @TotalPriceMin
+ * 그 밖의 제약 조건이 붙은 폼은 기동 시 실패함. | 검증이 조용히 빠지지 않도록 함.
+ * groups 는 Default 만 검증함.
+ *
+ * failFast() 는 첫 번째 오류에서 멈추는 Validator. | 검증 순서는 CompiledForm 참고
+ */
+@Component
+public class CompiledFormValidator implements Validator {
+
+    private final Map<Class<?>, CompiledForm> forms;
+    private final Validator failFast = new FailFastValidator();
+
+    @Autowired
+    public CompiledFormValidator(ValidatorFactory validatorFactory) {
+        this(validatorFactory, ItemSaveForm.class, ItemUpdateForm.class);
+    }
+
+    public CompiledFormValidator(ValidatorFactory validatorFactory, Class<?>... formClasses) {
+        Map<Class<?>, CompiledForm> compiled = new HashMap<>();
+        for (Class<?> formClass : formClasses) {
+            compiled.put(formClass, CompiledForm.compile(formClass,
+                    validatorFactory.getValidator(), validatorFactory.getMessageInterpolator()));
+        }
+        this.forms = Map.copyOf(compiled);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return forms.containsKey(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        form(target.getClass()).validate(target, errors, false);
+    }
+
+    public Validator failFast() {
+        return failFast;
+    }
+
+    /**
+     * binder 대상이 compile 된 폼이면 기본 Bean Validation 대신 이 Validator 만 사용하도록 함. | @InitBinder 에서 호출
+     * @ModelAttribute 는 binder 생성 시 대상 객체가 아직 없으므로 targetType 으로 판단함.
+     */
+    public void applyTo(WebDataBinder binder) {
+        applyTo(binder, false);
+    }
+
+    /**
+     * @param failFast true 이면 failFast() Validator 를 사용함.
+     */
+    public void applyTo(WebDataBinder binder, boolean failFast) {
+        Object target = binder.getTarget();
+        ResolvableType targetType = binder.getTargetType();
+        Class<?> type = target != null ? target.getClass() : targetType == null ? null : targetType.resolve();
+        if (type != null && supports(type)) {
+            binder.replaceValidators(failFast ? this.failFast : this);
+        }
+    }
+
+    private CompiledForm form(Class<?> type) {
+        CompiledForm form = forms.get(type);
+        if (form == null) {
+            throw new IllegalArgumentException("compile 되지 않은 폼. type=" + type.getName());
+        }
+        return form;
+    }
+
+    private class FailFastValidator implements Validator {
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return CompiledFormValidator.this.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            form(target.getClass()).validate(target, errors, true);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package hello.spring_item_service.web.validation.compiled;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import org.hibernate.validator.constraints.Range;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * property 하나에 붙은 제약 조건 하나를 미리 해석해 둔 검사.
+ * 오류 코드 / 인자 / 기본 메시지는 SpringValidatorAdapter 가 ConstraintViolation 으로 만드는 값과 같음.
+ * - 코드 : 애노테이션 이름 (NotBlank, Range ...)
+ * - 인자 : [필드 이름, message / groups / payload 를 뺀 속성 값 (속성 이름순)]
+ */
+final class FieldConstraint {
+
+    private static final Set<String> INTERNAL_ATTRIBUTES = Set.of("message", "groups", "payload");
+
+    // 값 하나만 보고 판단하는 검사 | 통과 시 아무 객체도 만들지 않아야 함.
+    @FunctionalInterface
+    interface Check {
+        boolean isValid(Object value);
+    }
+
+    private final String field;
+    private final String code;
+    private final Check check;
+    private final Object[] attributes;
+    private final ConstraintDescriptor<?> descriptor;
+    private final MessageInterpolator interpolator;
+
+    private FieldConstraint(String field, ConstraintDescriptor<?> descriptor, Check check, MessageInterpolator interpolator) {
+        this.field = field;
+        this.code = descriptor.getAnnotation().annotationType().getSimpleName();
+        this.check = check;
+        this.attributes = exposedAttributes(descriptor);
+        this.descriptor = descriptor;
+        this.interpolator = interpolator;
+    }
+
+    /**
+     * 제약 조건을 검사로 바꿈. | 지원하지 않는 제약 조건이면 기동 시 바로 실패함.
+     * @param type property 타입
+     */
+    static FieldConstraint compile(Class<?> formClass, String field, Class<?> type,
+                                   ConstraintDescriptor<?> descriptor, MessageInterpolator interpolator) {
+        Annotation annotation = descriptor.getAnnotation();
+        Check check;
+        if (annotation instanceof NotNull) {
+            check = value -> value != null;
+        } else if (annotation instanceof NotBlank && CharSequence.class.isAssignableFrom(type)) {
+            check = value -> value != null && hasText((CharSequence) value);
+        } else if (annotation instanceof Range range && isIntegral(type)) {
+            long min = range.min();
+            long max = range.max();
+            check = value -> value == null || (((Number) value).longValue() >= min && ((Number) value).longValue() <= max);
+        } else if (annotation instanceof Min min && isIntegral(type)) {
+            long minValue = min.value();
+            check = value -> value == null || ((Number) value).longValue() >= minValue;
+        } else if (annotation instanceof Max max && isIntegral(type)) {
+            long maxValue = max.value();
+            check = value -> value == null || ((Number) value).longValue() <= maxValue;
+        } else {
+            throw new IllegalStateException("지원하지 않는 제약 조건. form=" + formClass.getName()
+                    + " property=" + field + " constraint=" + annotation);
+        }
+        return new FieldConstraint(field, descriptor, check, interpolator);
+    }
+
+    boolean isValid(Object value) {
+        return check.isValid(value);
+    }
+
+    // 검증 실패 시에만 호출 | 인자 / 메시지는 objectName, 요청 Locale 에 따라 달라지므로 이때 만듦.
+    void reject(Object value, Errors errors) {
+        Object[] args = new Object[attributes.length + 1];
+        args[0] = new DefaultMessageSourceResolvable(
+                new String[]{errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+        System.arraycopy(attributes, 0, args, 1, attributes.length);
+        String message = interpolator.interpolate(descriptor.getMessageTemplate(), new Context(descriptor, value));
+
+        if (errors instanceof BindingResult bindingResult) {
+            bindingResult.addError(new FieldError(errors.getObjectName(), bindingResult.getNestedPath() + field, value, false,
+                    bindingResult.resolveMessageCodes(code, field), args, message));
+        } else {
+            errors.rejectValue(field, code, args, message);
+        }
+    }
+
+    String field() {
+        return field;
+    }
+
+    String code() {
+        return code;
+    }
+
+    // Hibernate NotBlankValidator 와 같은 기준 (trim 후 길이 > 0) | 문자열을 새로 만들지 않음.
+    private static boolean hasText(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == int.class || type == long.class || type == short.class || type == byte.class;
+    }
+
+    private static Object[] exposedAttributes(ConstraintDescriptor<?> descriptor) {
+        Map<String, Object> exposed = new TreeMap<>();
+        descriptor.getAttributes().forEach((name, value) -> {
+            if (!INTERNAL_ATTRIBUTES.contains(name)) {
+                exposed.put(name, value instanceof String text
+                        ? new DefaultMessageSourceResolvable(new String[]{text}, text) : value);
+            }
+        });
+        return exposed.values().toArray();
+    }
+
+    private record Context(ConstraintDescriptor<?> descriptor, Object value) implements MessageInterpolator.Context {
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return value;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new IllegalArgumentException("unwrap 할 수 없는 타입. type=" + type.getName());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package hello.spring_item_service.web.validation.compiled;
+
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * 폼 property 의 getter 를 LambdaMetafactory 로 Function 구현 클래스로 만들어 둠.
+ * 검증 시에는 일반 메서드 호출과 같으므로 Method.invoke / BeanWrapper 를 거치지 않음.
+ */
+final class PropertyGetter {
+
+    private PropertyGetter() {
+    }
+
+    static Class<?> type(Class<?> formClass, String property) {
+        return readMethod(formClass, property).getReturnType();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> of(Class<?> formClass, String property) {
+        Method readMethod = readMethod(formClass, property);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflect(readMethod);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    getter, getter.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("getter 생성 실패. form=" + formClass.getName() + " property=" + property, e);
+        }
+    }
+
+    private static Method readMethod(Class<?> formClass, String property) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(formClass, property);
+        Method readMethod = descriptor == null ? null : descriptor.getReadMethod();
+        if (readMethod == null || !Modifier.isPublic(formClass.getModifiers())) {
+            throw new IllegalStateException("public getter 가 없는 property. form=" + formClass.getName() + " property=" + property);
+        }
+        return readMethod;
+    }
+}
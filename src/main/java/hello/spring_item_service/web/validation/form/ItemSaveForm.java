@@ -6,7 +6,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
+// PLUS : 가격 * 수량 복합 룰을 컨트롤러 대신 폼에 선언함. | CompiledFormValidator 가 검증함.
 @Data
+@TotalPriceMin
 public class ItemSaveForm {
 
     @NotBlank
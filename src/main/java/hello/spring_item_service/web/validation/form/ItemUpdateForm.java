@@ -5,7 +5,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
+// PLUS : 가격 * 수량 복합 룰을 컨트롤러 대신 폼에 선언함. | CompiledFormValidator 가 검증함.
 @Data
+@TotalPriceMin
 public class ItemUpdateForm {
 
     @NotNull
@@ -19,4 +21,7 @@ public class ItemUpdateForm {
     private Integer price;
 
     private Integer quantity;
+
+    // 수정 화면을 연 시점의 version | 값이 있으면 저장된 version 과 같을 때만 수정함.
+    private Long version;
 }
@@ -0,0 +1,25 @@
+package hello.spring_item_service.web.validation.form;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 가격 * 수량 복합 룰 | 폼 클래스에 붙이면 CompiledFormValidator 가 필드 검증 뒤에 함께 검증함.
+ * 가격, 수량이 모두 있을 때만 검사하며, 실패 시 totalPriceMin 오류 (인자 {최소 금액, 현재 금액}) 를 추가함.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TotalPriceMin {
+
+    // 최소 금액
+    int value() default 10000;
+
+    // 가격 / 수량 property 이름 | Integer 타입이어야 함.
+    String price() default "price";
+
+    String quantity() default "quantity";
+}
@@ -0,0 +1,74 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarItemStoreTest {
+
+    ColumnarItemStore store = new ColumnarItemStore();
+
+    @Test
+    void streamFromSkipsEmptyChunksAndStopsAtLastId() {
+//      given | chunk (16,384 행) 여러 개를 건너뛰는 id
+        long[] ids = {1L, 3L, 63L, 64L, 16_384L * 5 + 7, 16_384L * 40 - 1};
+        for (long id : ids) {
+            store.put(new ItemValue(id, "item" + id, 10_000, 10, 1L, 0L));
+        }
+
+//      then
+        assertThat(store.streamFrom(0L)).extracting(ItemValue::getId).containsExactly(1L, 3L, 63L, 64L, 16_384L * 5 + 7, 16_384L * 40 - 1);
+        assertThat(store.streamFrom(3L).limit(2)).extracting(ItemValue::getId).containsExactly(63L, 64L);
+        assertThat(store.streamFrom(64L)).extracting(ItemValue::getId).containsExactly(16_384L * 5 + 7, 16_384L * 40 - 1);
+        assertThat(store.streamFrom(16_384L * 40 - 1)).isEmpty();
+        assertThat(store.streamFrom(Long.MAX_VALUE - 1)).isEmpty();
+    }
+
+    @Test
+    void streamFromAfterUpdateAndClear() {
+//      given
+        store.put(new ItemValue(2L, "itemA", 10_000, 10, 1L, 0L));
+        store.put(new ItemValue(2L, "itemB", 20_000, 20, 2L, 0L));
+
+//      then | 같은 id 를 다시 써도 한 번만 조회됨.
+        assertThat(store.streamFrom(0L)).extracting(ItemValue::getItemName).containsExactly("itemB");
+        assertThat(store.size()).isEqualTo(1);
+
+//      when
+        store.clear();
+        store.put(new ItemValue(1L, "itemC", 10_000, 10, 1L, 0L));
+
+//      then
+        assertThat(store.streamFrom(0L)).extracting(ItemValue::getItemName).containsExactly("itemC");
+    }
+
+    @Test
+    void partitionedIdsUseDenseRows() {
+//      given | 파티션 256 개 중 3, 7, 200 번을 맡은 노드의 id (sequence * 256 + 파티션)
+        ColumnarItemStore partitioned = new ColumnarItemStore(256);
+        int[] owned = {3, 7, 200};
+        List<Long> ids = new ArrayList<>();
+        for (long sequence = 1; sequence <= 20_000; sequence++) {
+            long id = sequence * 256 + owned[(int) (sequence % owned.length)];
+            partitioned.put(new ItemValue(id, "item" + id, 10_000, 10, 1L, 0L));
+            ids.add(id);
+        }
+
+//      then | id 가 아니라 sequence 위치에 저장되므로 chunk 2 개만 사용하고, 순서 / 조회 결과는 id 기준
+        assertThat(partitioned.size()).isEqualTo(20_000);
+        assertThat(partitioned.streamFrom(0L)).extracting(ItemValue::getId).isEqualTo(ids);
+        assertThat(partitioned.streamFrom(ids.get(99) - 1).findFirst()).get().extracting(ItemValue::getId).isEqualTo(ids.get(99));
+        assertThat(partitioned.streamFrom(ids.get(99)).findFirst()).get().extracting(ItemValue::getId).isEqualTo(ids.get(100));
+        assertThat(partitioned.get(ids.get(500)).getItemName()).isEqualTo("item" + ids.get(500));
+        assertThat(partitioned.get(ids.get(500) + 1)).isNull();
+        assertThat(partitioned.update(ids.get(500) + 1, item -> item)).isNull();
+
+//      then | 같은 sequence 의 다른 파티션 id 는 거절함.
+        assertThatThrownBy(() -> partitioned.put(new ItemValue(ids.get(0) + 1, "other", 10_000, 10, 1L, 0L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,253 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.domain.item.ItemPersistenceProperties.SyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileItemJournalTest {
+
+    static final int RACE_COUNT = 50_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recover() {
+//      given
+        ItemRepository itemRepository = open(SyncPolicy.ALWAYS, 100);
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.save(new Item("itemB", 20_000, 20));
+        itemRepository.update(itemA.getId(), new Item("itemC", 30_000, 30));
+        itemRepository.close();
+
+//      when
+        ItemRepository recovered = open(SyncPolicy.ALWAYS, 100);
+
+//      then
+        assertThat(recovered.findAll()).isEqualTo(itemRepository.findAll());
+        assertThat(recovered.save(new Item("itemD", 10_000, 10)).getId()).isEqualTo(3L);
+        recovered.close();
+    }
+
+    @Test
+    void recoverTruncatedTail() throws IOException {
+//      given | 마지막 레코드 기록 도중 장애
+        ItemRepository itemRepository = open(SyncPolicy.ALWAYS, 100);
+        itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.save(new Item("itemB", 20_000, 20));
+        itemRepository.save(new Item("itemC", 30_000, 30));
+        itemRepository.close();
+
+        Path log = dir.resolve("journal-1.log");
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+//      when
+        ItemRepository recovered = open(SyncPolicy.ALWAYS, 100);
+        ItemValue itemD = recovered.save(new Item("itemD", 40_000, 40));
+        recovered.close();
+
+//      then | 잘린 레코드만 버리고, 이후 기록은 정상 레코드 뒤에 이어짐.
+        ItemRepository reopened = open(SyncPolicy.ALWAYS, 100);
+        assertThat(reopened.findAll()).extracting(ItemValue::getItemName).containsExactly("itemA", "itemB", "itemD");
+        assertThat(itemD.getId()).isEqualTo(3L);
+        reopened.close();
+    }
+
+    @Test
+    void failOnCorruptionBeforeLastSegment() throws IOException {
+//      given | 마지막이 아닌 segment 의 중간 레코드가 손상됨.
+        ItemRepository itemRepository = open(SyncPolicy.ALWAYS, 100);
+        itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.save(new Item("itemB", 20_000, 20));
+        itemRepository.save(new Item("itemC", 30_000, 30));
+        itemRepository.close();
+
+        Path log = dir.resolve("journal-1.log");
+        Files.copy(log, dir.resolve("journal-2.log"));
+        corrupt(log, Files.size(log) / 2);
+
+//      then | 손상 뒤의 기록을 적용하지 않고 기동을 중단하며, 파일도 자르지 않음.
+        long size = Files.size(log);
+        assertThatThrownBy(() -> open(SyncPolicy.ALWAYS, 100))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("item journal 복구 실패");
+        assertThat(Files.size(log)).isEqualTo(size);
+    }
+
+    @Test
+    void truncateCorruptionInLastSegment() throws IOException {
+//      given | 마지막 segment 의 중간 레코드가 손상됨.
+        ItemRepository itemRepository = open(SyncPolicy.ALWAYS, 100);
+        itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.save(new Item("itemB", 20_000, 20));
+        itemRepository.save(new Item("itemC", 30_000, 30));
+        itemRepository.close();
+
+        Path log = dir.resolve("journal-1.log");
+        Files.copy(log, dir.resolve("journal-2.log"));
+        corrupt(dir.resolve("journal-2.log"), Files.size(log) / 2);
+
+//      when
+        ItemRepository recovered = open(SyncPolicy.ALWAYS, 100);
+
+//      then | 이전 segment 의 기록은 모두 적용됨.
+        assertThat(recovered.findAll()).extracting(ItemValue::getItemName).containsExactly("itemA", "itemB", "itemC");
+        recovered.close();
+    }
+
+    @Test
+    void rejectWritesAfterWriteFailure() throws Exception {
+//      given | 스냅샷을 위해 다음 segment 를 열 때 실패하도록 같은 이름의 디렉터리를 만듦.
+        ItemRepository itemRepository = open(SyncPolicy.INTERVAL, 1);
+        Files.createDirectory(dir.resolve("journal-2.log"));
+
+//      when
+        itemRepository.save(new Item("itemA", 10_000, 10));
+
+//      then | 실패 이후에는 기록을 받지 않음.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Throwable failure = null;
+        while (failure == null && System.nanoTime() < deadline) {
+            try {
+                itemRepository.save(new Item("itemB", 20_000, 20));
+                Thread.sleep(10);
+            } catch (IllegalStateException e) {
+                failure = e;
+            }
+        }
+        assertThat(failure).hasMessageContaining("item journal write failed");
+        assertThatThrownBy(() -> itemRepository.save(new Item("itemC", 30_000, 30)))
+                .isInstanceOf(IllegalStateException.class);
+        itemRepository.close();
+    }
+
+    @Test
+    void recoverFromSnapshot() throws IOException {
+//      given
+        ItemRepository itemRepository = open(SyncPolicy.INTERVAL, 5);
+        for (int i = 1; i <= 12; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, i));
+        }
+        itemRepository.update(1L, new Item("updated", 20_000, 1));
+        itemRepository.close();
+
+//      then | 스냅샷 이전 로그는 삭제됨.
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .anyMatch(name -> name.startsWith("snapshot-"))
+                    .doesNotContain("journal-1.log");
+        }
+
+        ItemRepository recovered = open(SyncPolicy.INTERVAL, 5);
+        assertThat(recovered.count()).isEqualTo(12);
+        assertThat(recovered.findById(1L).getItemName()).isEqualTo("updated");
+        recovered.close();
+    }
+
+    @Test
+    void readFromMappedSnapshot() {
+//      given | 스냅샷 + 스냅샷 이후 로그
+        ItemRepository itemRepository = open(SyncPolicy.INTERVAL, 5);
+        for (int i = 1; i <= 5; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, i));
+        }
+        itemRepository.update(2L, new Item("updated", 20_000, 2));
+        itemRepository.close();
+
+//      when | 스냅샷을 메모리로 옮기지 않고 map 된 상태로만 사용
+        ItemRepository recovered = open(SyncPolicy.INTERVAL, 100, false);
+        recovered.update(3L, new Item("updatedAgain", 30_000, 3));
+
+//      then
+        assertThat(recovered.isWarmingUp()).isTrue();
+        assertThat(recovered.count()).isEqualTo(5);
+        assertThat(recovered.findById(1L).getItemName()).isEqualTo("item1");
+        assertThat(recovered.findById(2L).getItemName()).isEqualTo("updated");
+        assertThat(recovered.findById(2L).getVersion()).isEqualTo(2L);
+        assertThat(recovered.findById(3L).getVersion()).isEqualTo(2L);
+        assertThat(recovered.findPage(1L, 2).getItems()).extracting(ItemValue::getItemName)
+                .containsExactly("updated", "updatedAgain");
+        assertThat(recovered.save(new Item("item6", 10_000, 6)).getId()).isEqualTo(6L);
+
+        ItemSearchCond cond = new ItemSearchCond();
+        cond.setNamePrefix("updated");
+        assertThat(recovered.search(cond, 10)).hasSize(2);
+        recovered.close();
+    }
+
+    @Test
+    void recoverSaveRacingUpdate() throws Exception {
+//      given | 저장된 직후의 Item 을 다른 스레드가 바로 수정함.
+        ItemRepository itemRepository = open(SyncPolicy.OS, 1_000_000);
+        Thread updater = new Thread(() -> {
+            for (long id = 1; id <= RACE_COUNT; id++) {
+                while (!itemRepository.update(id, new Item("updated", 20_000, 20))) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        updater.start();
+        for (int i = 0; i < RACE_COUNT; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, 10));
+        }
+        updater.join();
+        itemRepository.close();
+
+//      when
+        ItemRepository recovered = open(SyncPolicy.OS, 1_000_000);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (recovered.isWarmingUp() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+//      then | 로그에 save 가 update 보다 먼저 기록되어 모두 수정된 값으로 복구됨.
+        assertThat(recovered.count()).isEqualTo(RACE_COUNT);
+        assertThat(recovered.findAll()).allSatisfy(item -> {
+            assertThat(item.getVersion()).isEqualTo(2L);
+            assertThat(item.getItemName()).isEqualTo("updated");
+        });
+        recovered.close();
+    }
+
+    // position 의 한 byte 를 뒤집음.
+    private static void corrupt(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.rewind(), position);
+        }
+    }
+
+    private ItemRepository open(SyncPolicy sync, long snapshotEvery) {
+        return open(sync, snapshotEvery, true);
+    }
+
+    private ItemRepository open(SyncPolicy sync, long snapshotEvery, boolean hydrate) {
+        ItemPersistenceProperties properties = new ItemPersistenceProperties();
+        properties.setHydrate(hydrate);
+        properties.setEnabled(true);
+        properties.setDir(dir);
+        properties.setSync(sync);
+        properties.setSnapshotEvery(snapshotEvery);
+
+        ItemRepository itemRepository = new ItemRepository(ItemStorage.HEAP, properties);
+        itemRepository.open();
+        return itemRepository;
+    }
+}
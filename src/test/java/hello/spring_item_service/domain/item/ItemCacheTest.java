@@ -0,0 +1,95 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemCacheTest {
+
+    @Test
+    void readThrough() {
+//      given
+        ItemRepository itemRepository = cachedRepository(2);
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+
+//      when
+        itemRepository.findById(itemA.getId());
+        itemRepository.findById(itemA.getId());
+        itemRepository.findById(999L);
+
+//      then | 없는 id 는 캐시하지 않음.
+        ItemCacheStats stats = itemRepository.cacheStats();
+        assertThat(stats.enabled()).isTrue();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateInvalidates() {
+//      given
+        ItemRepository itemRepository = cachedRepository(100);
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.findById(itemA.getId());
+
+//      when
+        itemRepository.update(itemA.getId(), new Item("itemB", 20_000, 20));
+
+//      then
+        assertThat(itemRepository.findById(itemA.getId()).getItemName()).isEqualTo("itemB");
+    }
+
+    @Test
+    void noStaleReadAfterConcurrentUpdate() throws Exception {
+//      given
+        ItemRepository itemRepository = cachedRepository(100);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(itemRepository.save(new Item("item", 0, 0)).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(12);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+//      when | 조회 스레드가 캐시를 계속 채우는 동안 id 마다 하나의 스레드가 가격을 올리며 수정함.
+        for (int r = 0; r < 4; r++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    ids.forEach(itemRepository::findById);
+                }
+                return null;
+            }));
+        }
+        List<Future<?>> writers = new ArrayList<>();
+        for (Long id : ids) {
+            writers.add(executor.submit(() -> {
+                for (int price = 1; price <= 2_000; price++) {
+                    itemRepository.update(id, new Item("item", price, 0));
+//                  then | update 반환 후에는 이전 값을 돌려주지 않아야 함.
+                    assertThat(itemRepository.findById(id).getPrice()).isEqualTo(price);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private ItemRepository cachedRepository(long maximumSize) {
+        ItemCacheProperties cacheProperties = new ItemCacheProperties();
+        cacheProperties.setEnabled(true);
+        cacheProperties.setMaximumSize(maximumSize);
+        return new ItemRepository(ItemStorage.COLUMNAR, new ItemPersistenceProperties(), cacheProperties);
+    }
+}
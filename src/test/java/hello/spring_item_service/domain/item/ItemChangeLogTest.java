@@ -0,0 +1,70 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemChangeLogTest {
+
+    static final ItemValue ITEM = ItemValue.of(1L, new Item("itemA", 10_000, 10), 1L, 0L);
+
+    @Test
+    void changesInOrder() throws InterruptedException {
+//      given
+        ItemChangeLog<ItemChange> changeLog = new ItemChangeLog<>(10);
+        for (int i = 0; i < 5; i++) {
+            append(changeLog);
+        }
+
+//      when
+        List<ItemChange> changes = changeLog.awaitAfter(1, 3, Duration.ZERO);
+
+//      then
+        assertThat(changes).extracting(ItemChange::sequence).containsExactly(2L, 3L, 4L);
+        assertThat(changeLog.lastSequence()).isEqualTo(5L);
+    }
+
+    @Test
+    void overwrittenChangesNeedReset() throws InterruptedException {
+//      given | 최근 3 개만 보관
+        ItemChangeLog<ItemChange> changeLog = new ItemChangeLog<>(3);
+        for (int i = 0; i < 5; i++) {
+            append(changeLog);
+        }
+
+//      then | 1, 2 는 지워졌으므로 처음부터 다시 받아야 함.
+        assertThat(changeLog.awaitAfter(0, 10, Duration.ZERO)).isNull();
+        assertThat(changeLog.awaitAfter(1, 10, Duration.ZERO)).isNull();
+        assertThat(changeLog.awaitAfter(2, 10, Duration.ZERO)).extracting(ItemChange::sequence).containsExactly(3L, 4L, 5L);
+        assertThat(changeLog.awaitAfter(6, 10, Duration.ZERO)).isNull();
+    }
+
+    @Test
+    void waitForNewChange() throws InterruptedException {
+//      given
+        ItemChangeLog<ItemChange> changeLog = new ItemChangeLog<>(10);
+        Thread.ofVirtual().start(() -> {
+            sleep(50);
+            append(changeLog);
+        });
+
+//      then | 새 변경이 기록되면 바로 반환, 없으면 wait 뒤 빈 목록
+        assertThat(changeLog.awaitAfter(0, 10, Duration.ofSeconds(5))).hasSize(1);
+        assertThat(changeLog.awaitAfter(1, 10, Duration.ofMillis(50))).isEmpty();
+    }
+
+    private static void append(ItemChangeLog<ItemChange> changeLog) {
+        changeLog.append(sequence -> new ItemChange(sequence, System.currentTimeMillis(), List.of(ITEM)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.domain.item.ItemPersistenceProperties.SyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemInventoryTest {
+
+    static final int THREADS = 8;
+    static final int OPERATIONS_PER_THREAD = 5_000;
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @EnumSource(ItemStorage.class)
+    void randomConcurrentWrites(ItemStorage storage) throws Exception {
+//      given
+        ItemRepository itemRepository = new ItemRepository(storage);
+        AtomicLong lastId = new AtomicLong();
+        long seed = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+//      when | 저장 / 묶음 저장 / 수정 / 묶음 수정을 무작위로 섞음.
+        for (int t = 0; t < THREADS; t++) {
+            Random random = new Random(seed + t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    int operation = random.nextInt(100);
+                    if (operation < 30 || lastId.get() == 0) {
+                        lastId.accumulateAndGet(itemRepository.save(randomItem(random)).getId(), Math::max);
+                    } else if (operation < 40) {
+                        List<Item> items = new ArrayList<>();
+                        for (int j = random.nextInt(1, 6); j > 0; j--) {
+                            items.add(randomItem(random));
+                        }
+                        lastId.accumulateAndGet(itemRepository.saveAll(items).getLast().getId(), Math::max);
+                    } else if (operation < 85) {
+                        itemRepository.update(random.nextLong(1, lastId.get() + 1), randomItem(random));
+                    } else {
+                        List<Item> updateParams = new ArrayList<>();
+                        for (int j = random.nextInt(1, 6); j > 0; j--) {
+                            Item updateParam = randomItem(random);
+                            updateParam.setId(random.nextLong(1, lastId.get() + 2));
+                            updateParams.add(updateParam);
+                        }
+                        itemRepository.updateAll(updateParams, random.nextBoolean());
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+//      then | 전체를 다시 계산한 값과 같음.
+        List<ItemValue> items = itemRepository.findAll();
+        ItemInventoryStats stats = itemRepository.inventory();
+        assertThat(stats).as("seed=%d", seed).isEqualTo(ItemInventory.recompute(items));
+        assertThat(stats.count()).isEqualTo(items.size());
+        assertThat(stats.totalValue()).as("seed=%d", seed).isEqualTo(items.stream()
+                .filter(item -> item.getPrice() != null && item.getQuantity() != null)
+                .mapToLong(item -> Math.multiplyExact((long) item.getPrice(), (long) item.getQuantity()))
+                .sum());
+        assertThat(stats.priceHistogram().stream().mapToLong(ItemInventoryStats.PriceBucket::count).sum())
+                .isEqualTo(items.stream().filter(item -> item.getPrice() != null).count());
+    }
+
+    @Test
+    void totalValueBeyondInt() {
+//      given | 가격 * 수량이 int 범위를 넘음.
+        ItemRepository itemRepository = new ItemRepository();
+        for (int i = 0; i < 3; i++) {
+            itemRepository.save(new Item("item" + i, 1_000_000, 9_999));
+        }
+
+//      when
+        ItemInventoryStats stats = itemRepository.inventory();
+
+//      then
+        assertThat(stats.count()).isEqualTo(3);
+        assertThat(stats.totalQuantity()).isEqualTo(29_997L);
+        assertThat(stats.totalValue()).isEqualTo(29_997_000_000L);
+        assertThat(stats.priceHistogram().getLast().minPrice()).isEqualTo(500_000);
+        assertThat(stats.priceHistogram().getLast().count()).isEqualTo(3);
+    }
+
+    @Test
+    void updateMovesPriceBucket() {
+//      given
+        ItemRepository itemRepository = new ItemRepository();
+        ItemValue savedItem = itemRepository.save(new Item("itemA", 5_000, 10));
+
+//      when
+        itemRepository.update(savedItem.getId(), new Item("itemA", 60_000, null));
+
+//      then | 수량이 없으면 금액 0
+        ItemInventoryStats stats = itemRepository.inventory();
+        assertThat(stats.totalQuantity()).isZero();
+        assertThat(stats.totalValue()).isZero();
+        assertThat(stats.priceHistogram()).extracting(ItemInventoryStats.PriceBucket::count)
+                .containsExactly(0L, 0L, 1L, 0L, 0L);
+    }
+
+    @Test
+    void recoveredFromSnapshotAndLog() throws Exception {
+//      given | 스냅샷 뒤에 로그가 남도록 저장 / 수정
+        ItemPersistenceProperties properties = new ItemPersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDir(dir);
+        properties.setSync(SyncPolicy.ALWAYS);
+        properties.setSnapshotEvery(100);
+        ItemRepository itemRepository = new ItemRepository(ItemStorage.HEAP, properties);
+        itemRepository.open();
+        Random random = new Random(42);
+        for (int i = 0; i < 250; i++) {
+            itemRepository.save(randomItem(random));
+        }
+        for (int i = 0; i < 100; i++) {
+            itemRepository.update(random.nextLong(1, 251), randomItem(random));
+        }
+        ItemInventoryStats expected = itemRepository.inventory();
+        itemRepository.close();
+
+//      when
+        ItemRepository recovered = new ItemRepository(ItemStorage.HEAP, properties);
+        recovered.open();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (recovered.isWarmingUp() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+//      then
+        assertThat(recovered.inventory()).isEqualTo(expected);
+        assertThat(recovered.inventory()).isEqualTo(ItemInventory.recompute(recovered.findAll()));
+        recovered.close();
+    }
+
+    // 가격은 모든 구간 / int 곱셈 범위를 넘도록, 수량은 가끔 없음.
+    private static Item randomItem(Random random) {
+        Integer quantity = random.nextInt(10) == 0 ? null : random.nextInt(10_000);
+        return new Item("item", random.nextInt(1, 2_000_001), quantity);
+    }
+}
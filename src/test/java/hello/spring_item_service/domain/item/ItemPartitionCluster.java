@@ -0,0 +1,81 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.SpringItemServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트용 파티션 노드 묶음. | localhost 의 빈 포트마다 애플리케이션을 하나씩 띄움.
+ * 노드마다 properties 의 {node} 를 노드 번호로 바꿔 적용함.
+ * SpringApplicationBuilder.properties 는 기본값이라 application.properties 에 덮이므로 명령행 인자로 전달함.
+ */
+class ItemPartitionCluster implements AutoCloseable {
+
+    static final String SECRET = "partition-test-secret";
+
+    private final List<Integer> ports = new ArrayList<>();
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+    static ItemPartitionCluster start(int nodes, String... properties) {
+        ItemPartitionCluster cluster = new ItemPartitionCluster();
+        for (int node = 0; node < nodes; node++) {
+            cluster.ports.add(freePort());
+        }
+        String nodeList = cluster.ports.stream().map(port -> "http://localhost:" + port).collect(Collectors.joining(","));
+        try {
+            for (int node = 0; node < nodes; node++) {
+                List<String> args = new ArrayList<>(List.of(
+                        "--server.port=" + cluster.ports.get(node),
+                        "--item.partition.enabled=true",
+                        "--item.partition.nodes=" + nodeList,
+                        "--item.partition.self=http://localhost:" + cluster.ports.get(node),
+                        "--item.partition.secret=" + SECRET));
+                for (String property : properties) {
+                    args.add("--" + property.replace("{node}", String.valueOf(node)));
+                }
+                cluster.contexts.add(new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                        .run(args.toArray(String[]::new)));
+            }
+        } catch (RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int size() {
+        return contexts.size();
+    }
+
+    int port(int node) {
+        return ports.get(node);
+    }
+
+    ItemRepository repository(int node) {
+        return contexts.get(node).getBean(ItemRepository.class);
+    }
+
+    List<ItemRepository> repositories() {
+        return contexts.stream().map(context -> context.getBean(ItemRepository.class)).toList();
+    }
+
+    @Override
+    public void close() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+}
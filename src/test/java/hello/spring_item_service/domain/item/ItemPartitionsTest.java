@@ -0,0 +1,81 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemPartitionsTest {
+
+    static final int PARTITIONS = 256;
+    static final int VIRTUAL_NODES = 128;
+    static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    void assignIgnoresNodeOrder() {
+//      when
+        int[] owners = ItemPartitions.assign(PARTITIONS, NODES, VIRTUAL_NODES);
+        int[] reversed = ItemPartitions.assign(PARTITIONS, NODES.reversed(), VIRTUAL_NODES);
+
+//      then | 같은 노드가 같은 파티션을 맡고, 모든 노드가 파티션을 맡음.
+        int[] counts = new int[NODES.size()];
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            assertThat(NODES.reversed().get(reversed[partition])).isEqualTo(NODES.get(owners[partition]));
+            counts[owners[partition]]++;
+        }
+        for (int count : counts) {
+            assertThat(count).isBetween(PARTITIONS / NODES.size() / 2, PARTITIONS / NODES.size() * 2);
+        }
+    }
+
+    @Test
+    void addingNodeMovesOnlyToNewNode() {
+//      given
+        List<String> grown = List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080");
+
+//      when
+        int[] before = ItemPartitions.assign(PARTITIONS, NODES, VIRTUAL_NODES);
+        int[] after = ItemPartitions.assign(PARTITIONS, grown, VIRTUAL_NODES);
+
+//      then | 담당이 바뀐 파티션은 모두 새 노드로 옮겨짐.
+        int moved = 0;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            if (before[partition] != after[partition]) {
+                assertThat(after[partition]).isEqualTo(3);
+                moved++;
+            }
+        }
+        assertThat(moved).isPositive().isLessThan(PARTITIONS / 2);
+    }
+
+    @Test
+    void idsAreUniqueAndLocalToAllocatingNode() {
+//      given
+        int[] owners = ItemPartitions.assign(PARTITIONS, NODES, VIRTUAL_NODES);
+        Set<Long> ids = new HashSet<>();
+
+        for (int node = 0; node < NODES.size(); node++) {
+            try (ItemPartitions partitions = new ItemPartitions(owners, node, new ItemNode[NODES.size()])) {
+                for (long sequence = 1; sequence <= 10_000; sequence++) {
+//                  when
+                    long id = partitions.toId(sequence);
+
+//                  then
+                    assertThat(partitions.isLocal(id)).isTrue();
+                    assertThat(partitions.toSequence(id)).isEqualTo(sequence);
+                    assertThat(ids.add(id)).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void single() {
+        assertThat(ItemPartitions.SINGLE.isPartitioned()).isFalse();
+        assertThat(ItemPartitions.SINGLE.toId(7)).isEqualTo(7);
+        assertThat(ItemPartitions.SINGLE.isLocal(7)).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package hello.spring_item_service.domain.item;
+
+import hello.spring_item_service.SpringItemServiceApplication;
+import hello.spring_item_service.domain.item.ItemReplicationProperties.Role;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * localhost 에 leader / follower 를 띄워 leader 의 쓰기가 follower 에 반영되는지 확인함.
+ */
+class ItemReplicationTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+    static final String SECRET = "replication-test-secret";
+
+    static ConfigurableApplicationContext leaderContext;
+    static ConfigurableApplicationContext followerContext;
+    static ItemRepository leader;
+    static ItemRepository follower;
+
+    @BeforeAll
+    static void start() {
+        leaderContext = new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                .run("--server.port=0", "--item.replication.role=leader", "--item.replication.secret=" + SECRET);
+        int leaderPort = ((WebServerApplicationContext) leaderContext).getWebServer().getPort();
+        followerContext = new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                .run("--server.port=0", "--item.replication.role=follower",
+                        "--item.replication.leader=http://localhost:" + leaderPort, "--item.replication.secret=" + SECRET,
+                        "--item.replication.poll-wait=200ms", "--item.replication.retry-delay=100ms");
+        leader = leaderContext.getBean(ItemRepository.class);
+        follower = followerContext.getBean(ItemRepository.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        if (followerContext != null) {
+            followerContext.close();
+        }
+        leaderContext.close();
+    }
+
+    @Test
+    void saveAndUpdateReplicated() throws InterruptedException {
+//      given
+        ItemValue savedItem = leader.save(new Item("itemA", 10_000, 10));
+        Item updateParam = new Item("itemB", 20_000, 20);
+        updateParam.setVersion(savedItem.getVersion());
+        leader.update(savedItem.getId(), updateParam);
+
+//      when
+        boolean replicated = follower.awaitReplicated(leader.epoch(), leader.lastChangeSequence(), TIMEOUT);
+
+//      then | 마지막 값과 version 이 같음.
+        assertThat(replicated).isTrue();
+        assertThat(follower.findById(savedItem.getId())).isEqualTo(leader.findById(savedItem.getId()));
+        assertThat(follower.findById(savedItem.getId()).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void saveAllReplicated() throws InterruptedException {
+//      given
+        List<ItemValue> savedItems = leader.saveAll(List.of(
+                new Item("itemA", 10_000, 10), new Item("itemB", 20_000, 20)));
+
+//      when
+        follower.awaitReplicated(leader.epoch(), leader.lastChangeSequence(), TIMEOUT);
+
+//      then
+        for (ItemValue savedItem : savedItems) {
+            assertThat(follower.findById(savedItem.getId())).isEqualTo(savedItem);
+        }
+        assertThat(follower.count()).isEqualTo(leader.count());
+    }
+
+    @Test
+    void replicationStatus() throws InterruptedException {
+//      given
+        leader.save(new Item("itemA", 10_000, 10));
+        follower.awaitReplicated(leader.epoch(), leader.lastChangeSequence(), TIMEOUT);
+
+//      when
+        ItemReplicationStatus status = follower.replicationStatus();
+
+//      then
+        assertThat(status.role()).isEqualTo(Role.FOLLOWER);
+        assertThat(status.appliedSequence()).isEqualTo(leader.lastChangeSequence());
+        assertThat(status.lagSequences()).isZero();
+        assertThat(status.lastContactMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(leader.replicationStatus().role()).isEqualTo(Role.LEADER);
+    }
+
+    @Test
+    void followerRejectsWrites() throws Exception {
+//      repository 직접 쓰기는 예외
+        assertThatThrownBy(() -> follower.save(new Item("itemA", 10_000, 10)))
+                .isInstanceOf(IllegalStateException.class);
+
+//      화면 / API 쓰기 요청은 leader 로 redirect | 307 은 method 와 본문을 그대로 다시 보냄.
+        int followerPort = ((WebServerApplicationContext) followerContext).getWebServer().getPort();
+        int leaderPort = ((WebServerApplicationContext) leaderContext).getWebServer().getPort();
+        try (HttpClient client = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NEVER).build()) {
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder()
+                            .uri(URI.create("http://localhost:" + followerPort + "/basic/items/add"))
+                            .header("Content-Type", "application/x-www-form-urlencoded")
+                            .POST(HttpRequest.BodyPublishers.ofString("itemName=itemA&price=10000&quantity=10"))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+
+            assertThat(response.statusCode()).isEqualTo(307);
+            assertThat(response.headers().firstValue("Location"))
+                    .hasValue("http://localhost:" + leaderPort + "/basic/items/add");
+        }
+    }
+
+    @Test
+    void replicationApiRequiresSecret() throws Exception {
+        int leaderPort = ((WebServerApplicationContext) leaderContext).getWebServer().getPort();
+        String changes = "/internal/replication/changes?epoch=" + leader.epoch() + "&after=0&max=1&waitMillis=0";
+        try (HttpClient client = HttpClient.newHttpClient()) {
+//          secret 이 없거나 다르면 기다리지 않고 403
+            assertThat(get(client, leaderPort, changes, null)).isEqualTo(403);
+            assertThat(get(client, leaderPort, changes, "wrong")).isEqualTo(403);
+            assertThat(get(client, leaderPort, "/internal/replication/snapshot?cursor=0&limit=1", null)).isEqualTo(403);
+
+//          follower 와 같은 secret 이면 처리함.
+            assertThat(get(client, leaderPort, changes, SECRET)).isEqualTo(200);
+        }
+    }
+
+    private static int get(HttpClient client, int port, String path, String secret) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (secret != null) {
+            request.header(ItemReplicationProperties.SECRET_HEADER, secret);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,136 @@
+package hello.spring_item_service.domain.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemRepositoryConcurrencyTest {
+
+    static final int THREADS = 16;
+    static final int ITEMS_PER_THREAD = 5_000;
+
+    @ParameterizedTest
+    @EnumSource(ItemStorage.class)
+    void saveConcurrently(ItemStorage storage) throws Exception {
+//      given
+        ItemRepository itemRepository = new ItemRepository(storage);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+//      when
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>(ITEMS_PER_THREAD);
+                for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                    ids.add(itemRepository.save(new Item("item" + i, 10_000, 10)).getId());
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+//      then
+        int total = THREADS * ITEMS_PER_THREAD;
+        assertThat(ids).hasSize(total);
+        assertThat(itemRepository.findAll()).hasSize(total);
+        for (long id = 1; id <= total; id++) {
+            assertThat(itemRepository.findById(id)).isNotNull();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ItemStorage.class)
+    void updateConcurrently(ItemStorage storage) throws Exception {
+//      given
+        ItemRepository itemRepository = new ItemRepository(storage);
+        Long itemId = itemRepository.save(new Item("itemA", 10_000, 10)).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+//      when
+        for (int t = 0; t < THREADS; t++) {
+            int price = 10_000 + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    itemRepository.update(itemId, new Item("item" + price, price, price));
+                    ItemValue findItem = itemRepository.findById(itemId);
+                    assertThat(findItem.getPrice()).isEqualTo(findItem.getQuantity());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+//      then | 마지막 수정 내용이 섞이지 않고 한 요청의 값으로만 이루어져 있어야 함.
+        ItemValue findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item" + findItem.getPrice());
+        assertThat(findItem.getQuantity()).isEqualTo(findItem.getPrice());
+        assertThat(itemRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void createdEventBeforeUpdatedEvent() throws Exception {
+//      given | 저장된 직후의 Item 을 다른 스레드가 바로 수정함.
+        int count = 100_000;
+        ItemFeedProperties feed = new ItemFeedProperties();
+        feed.setEnabled(true);
+        feed.setLogSize(count * 2);
+        ItemRepository itemRepository = new ItemRepository(ItemStorage.HEAP, false, new ItemPersistenceProperties(),
+                new ItemCacheProperties(), new ItemPartitionProperties(), new ItemReplicationProperties(), feed,
+                new SimpleMeterRegistry());
+        Thread updater = new Thread(() -> {
+            for (long id = 1; id <= count; id++) {
+                while (!itemRepository.update(id, new Item("updated", 20_000, 20))) {
+                    Thread.yield();
+                }
+            }
+        });
+        updater.start();
+
+//      when
+        for (int i = 0; i < count; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, 10));
+        }
+        updater.join();
+        List<ItemChangeEvent> events = itemRepository.changeEventsAfter(itemRepository.epoch(), 0, count * 2, Duration.ZERO).events();
+
+//      then | 같은 id 는 등록 (version 1) 다음 수정 (version 2) 순서로 기록됨.
+        assertThat(events).hasSize(count * 2);
+        Set<Long> created = new HashSet<>();
+        List<ItemChangeEvent> outOfOrder = new ArrayList<>();
+        for (ItemChangeEvent event : events) {
+            long id = event.after().getId();
+            boolean inOrder = event.type() == ItemChangeEvent.Type.CREATED
+                    ? created.add(id) && event.after().getVersion() == 1L
+                    : created.contains(id) && event.after().getVersion() == 2L;
+            if (!inOrder) {
+                outOfOrder.add(event);
+            }
+        }
+        assertThat(outOfOrder).isEmpty();
+    }
+}
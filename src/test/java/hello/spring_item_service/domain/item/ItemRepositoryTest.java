@@ -2,6 +2,8 @@ package hello.spring_item_service.domain.item;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 
@@ -22,10 +24,26 @@ class ItemRepositoryTest {
 //      given
         Item item = new Item("itemA", 10_000, 10);
 //      when
-        Item savedItem = itemRepository.save(item);
+        ItemValue savedItem = itemRepository.save(item);
 //      then
-        Item findItem = itemRepository.findById(item.getId());
+        ItemValue findItem = itemRepository.findById(savedItem.getId());
         assertThat(findItem).isEqualTo(savedItem);
+        assertThat(findItem.getItemName()).isEqualTo("itemA");
+    }
+
+    @Test
+    void saveCopiesFormValues() {
+//      given
+        Item item = new Item("itemA", 10_000, 10);
+        ItemValue savedItem = itemRepository.save(item);
+//      when | 저장 후 폼 객체를 바꿔도
+        item.setItemName("changed");
+        item.setPrice(1);
+//      then | 저장된 값은 바뀌지 않음.
+        ItemValue findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem).isSameAs(savedItem);
+        assertThat(findItem.getItemName()).isEqualTo("itemA");
+        assertThat(findItem.getPrice()).isEqualTo(10_000);
     }
 
     @Test
@@ -34,14 +52,14 @@ class ItemRepositoryTest {
         Item item1 = new Item("itemA", 10_000, 10);
         Item item2 = new Item("itemB", 20_000, 20);
 
-        itemRepository.save(item1);
-        itemRepository.save(item2);
+        ItemValue savedItem1 = itemRepository.save(item1);
+        ItemValue savedItem2 = itemRepository.save(item2);
 //      when
-        List<Item> result = itemRepository.findAll();
+        List<ItemValue> result = itemRepository.findAll();
 
 //      then
         assertThat(result).hasSize(2);
-        assertThat(result).contains(item1, item2);
+        assertThat(result).contains(savedItem1, savedItem2);
     }
 
     @Test
@@ -49,16 +67,138 @@ class ItemRepositoryTest {
 //      given
         Item item1 = new Item("itemA", 10_000, 10);
 
-        Item savedItem = itemRepository.save(item1);
+        ItemValue savedItem = itemRepository.save(item1);
         Long itemId = savedItem.getId();
 //      when
         Item updateItem = new Item("itemB", 20_000, 20);
         itemRepository.update(itemId, updateItem);
 
-        Item findItem = itemRepository.findById(itemId);
+        ItemValue findItem = itemRepository.findById(itemId);
 //      then
         assertThat(findItem.getItemName()).isEqualTo(updateItem.getItemName());
         assertThat(findItem.getPrice()).isEqualTo(updateItem.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateItem.getQuantity());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPage() {
+//      given
+        for (int i = 1; i <= 5; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, 10));
+        }
+//      when
+        ItemPage first = itemRepository.findPage(null, 2);
+        ItemPage second = itemRepository.findPage(first.getNextCursor(), 2);
+        ItemPage last = itemRepository.findPage(second.getNextCursor(), 2);
+
+//      then
+        assertThat(first.getItems()).extracting(ItemValue::getItemName).containsExactly("item1", "item2");
+        assertThat(second.getItems()).extracting(ItemValue::getItemName).containsExactly("item3", "item4");
+        assertThat(last.getItems()).extracting(ItemValue::getItemName).containsExactly("item5");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(itemRepository.findAll(1, 2)).isEqualTo(second.getItems());
+        assertThat(itemRepository.stream().limit(3)).hasSize(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void search(boolean indexed) {
+//      given | 인덱스를 쓰지 않으면 전체를 순회하지만 결과와 순서는 같아야 함.
+        ItemRepository itemRepository = new ItemRepository(ItemStorage.HEAP, indexed);
+        ItemValue itemA = itemRepository.save(new Item("apple", 1_000, 10));
+        ItemValue itemB = itemRepository.save(new Item("apricot", 5_000, 10));
+        ItemValue itemC = itemRepository.save(new Item("banana", 9_000, 10));
+
+        ItemSearchCond byName = new ItemSearchCond();
+        byName.setNamePrefix("ap");
+        ItemSearchCond byPrice = new ItemSearchCond();
+        byPrice.setMinPrice(4_000);
+        byPrice.setMaxPrice(9_000);
+
+//      when
+        itemRepository.update(itemA.getId(), new Item("cherry", 8_000, 10));
+
+//      then | 수정된 이름 / 가격으로 인덱스가 갱신되어야 함.
+        assertThat(itemRepository.search(byName, 10)).extracting(ItemValue::getId).containsExactly(itemB.getId());
+        assertThat(itemRepository.search(byPrice, 10)).extracting(ItemValue::getId)
+                .containsExactly(itemB.getId(), itemA.getId(), itemC.getId());
+        assertThat(itemRepository.search(byPrice, 2)).extracting(ItemValue::getId)
+                .containsExactly(itemB.getId(), itemA.getId());
+
+        byName.setMaxPrice(4_000);
+        assertThat(itemRepository.search(byName, 10)).isEmpty();
+    }
+
+    @Test
+    void saveAllAndUpdateAll() {
+//      given
+        List<ItemValue> savedItems = itemRepository.saveAll(List.of(new Item("itemA", 10_000, 10), new Item("itemB", 20_000, 20)));
+        ItemValue itemA = savedItems.get(0);
+        ItemValue itemB = savedItems.get(1);
+
+        Item updateA = new Item("itemC", 30_000, 30);
+        updateA.setId(itemA.getId());
+        Item missing = new Item("itemD", 40_000, 40);
+        missing.setId(itemB.getId() + 100);
+
+//      when
+        ItemUpdateResult result = itemRepository.updateAll(List.of(updateA, missing), false);
+
+//      then
+        assertThat(itemB.getId()).isEqualTo(itemA.getId() + 1);
+        assertThat(result.notFound()).containsExactly(1);
+        assertThat(result.items()).extracting(item -> item == null ? null : item.getItemName()).containsExactly("itemC", null);
+        assertThat(itemRepository.findById(itemA.getId()).getItemName()).isEqualTo("itemC");
+        assertThat(itemRepository.findById(itemB.getId())).isEqualTo(itemB);
+        assertThat(itemRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void versionAndModificationCount() {
+//      given
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+        long count = itemRepository.modificationCount();
+
+//      when
+        itemRepository.update(itemA.getId(), new Item("itemB", 20_000, 20));
+        itemRepository.update(999L, new Item("itemC", 30_000, 30));
+
+//      then | 없는 id 수정은 변경으로 세지 않음.
+        ItemValue findItem = itemRepository.findById(itemA.getId());
+        assertThat(itemA.getVersion()).isEqualTo(1L);
+        assertThat(findItem.getVersion()).isEqualTo(2L);
+        assertThat(findItem.getLastModified()).isGreaterThanOrEqualTo(itemA.getLastModified());
+        assertThat(itemRepository.modificationCount()).isEqualTo(count + 1);
+        assertThat(itemRepository.lastModified()).isEqualTo(findItem.getLastModified());
+    }
+
+    @Test
+    void updateWithVersion() {
+//      given
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+        ItemValue itemB = itemRepository.save(new Item("itemB", 10_000, 10));
+
+        Item first = new Item("first", 20_000, 20);
+        first.setVersion(1L);
+        Item stale = new Item("stale", 30_000, 30);
+        stale.setVersion(1L);
+
+//      when | 같은 version 으로 두 번 수정
+        boolean firstUpdated = itemRepository.update(itemA.getId(), first);
+        boolean staleUpdated = itemRepository.update(itemA.getId(), stale);
+
+        stale.setId(itemA.getId());
+        Item updateB = new Item("updatedB", 20_000, 20);
+        updateB.setId(itemB.getId());
+        updateB.setVersion(1L);
+        ItemUpdateResult result = itemRepository.updateAll(List.of(updateB, stale), true);
+
+//      then | 늦은 수정은 반영되지 않고, allOrNothing 이면 다른 수정도 반영되지 않음.
+        assertThat(firstUpdated).isTrue();
+        assertThat(staleUpdated).isFalse();
+        assertThat(itemRepository.findById(itemA.getId()).getItemName()).isEqualTo("first");
+        assertThat(result.conflicts()).containsExactly(1);
+        assertThat(result.items()).containsOnlyNulls();
+        assertThat(itemRepository.findById(itemB.getId()).getItemName()).isEqualTo("itemB");
+    }
+}
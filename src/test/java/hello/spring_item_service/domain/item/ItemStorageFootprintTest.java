@@ -0,0 +1,53 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// PLUS : 저장 방식별 heap 사용량 비교. | ./gradlew perfTest 로만 실행됨.
+// 보조 인덱스 (item.repository.index=true) 를 켠 columnar 도 함께 출력함. | 인덱스 비용 확인용
+@Tag("perf")
+class ItemStorageFootprintTest {
+
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 10_000_000})
+    void heapUsage(int count) {
+        long heapBytes = retainedBytes(ItemStorage.HEAP, false, count);
+        long columnarBytes = retainedBytes(ItemStorage.COLUMNAR, false, count);
+        long indexedBytes = retainedBytes(ItemStorage.COLUMNAR, true, count);
+
+        System.out.printf("items=%,d heap=%,d MB (%d B/item) columnar=%,d MB (%d B/item) columnar+index=%,d MB (%d B/item)%n",
+                count,
+                heapBytes >> 20, heapBytes / count,
+                columnarBytes >> 20, columnarBytes / count,
+                indexedBytes >> 20, indexedBytes / count);
+
+        assertThat(columnarBytes).isLessThan(heapBytes);
+        assertThat(columnarBytes).isLessThan(indexedBytes);
+    }
+
+    private long retainedBytes(ItemStorage storage, boolean indexed, int count) {
+        long before = usedHeap();
+        ItemRepository itemRepository = new ItemRepository(storage, indexed);
+        for (int i = 0; i < count; i++) {
+            itemRepository.save(new Item("item" + i, 1_000 + i % 1_000_000, i % 9_999));
+        }
+        long after = usedHeap();
+        assertThat(itemRepository.findById((long) count)).isNotNull();
+        return after - before;
+    }
+
+    private long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
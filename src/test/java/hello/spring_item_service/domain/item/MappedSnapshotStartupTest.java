@@ -0,0 +1,57 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// PLUS : 스냅샷 크기별 기동 시간 측정. | ./gradlew perfTest 로만 실행됨.
+@Tag("perf")
+class MappedSnapshotStartupTest {
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 1_000_000, 10_000_000})
+    void startup(int count) throws IOException, InterruptedException {
+        Path snapshot = dir.resolve("snapshot-1.dat");
+        MappedItemSnapshot.write(snapshot, LongStream.rangeClosed(1, count).mapToObj(id ->
+                new ItemValue(id, "item" + id, 1_000 + (int) (id % 1_000_000), (int) (id % 9_999), 1L, 0L)));
+
+        // 조회 가능 시점 | 스냅샷 map + 로그 적용
+        long startNanos = System.nanoTime();
+        ItemRepository itemRepository = open(true);
+        assertThat(itemRepository.findById((long) count / 2)).isNotNull();
+        long readyNanos = System.nanoTime() - startNanos;
+
+        // 스냅샷 Item 을 모두 메모리로 옮긴 시점
+        while (itemRepository.isWarmingUp()) {
+            Thread.sleep(1);
+        }
+        long loadedNanos = System.nanoTime() - startNanos;
+        assertThat(itemRepository.count()).isEqualTo(count);
+        itemRepository.close();
+
+        System.out.printf("items=%,d snapshot=%,d MB ready=%,d ms fullyLoaded=%,d ms%n",
+                count, Files.size(snapshot) >> 20, readyNanos / 1_000_000, loadedNanos / 1_000_000);
+    }
+
+    private ItemRepository open(boolean hydrate) {
+        ItemPersistenceProperties properties = new ItemPersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDir(dir);
+        properties.setHydrate(hydrate);
+
+        ItemRepository itemRepository = new ItemRepository(ItemStorage.HEAP, properties);
+        itemRepository.open();
+        return itemRepository;
+    }
+}
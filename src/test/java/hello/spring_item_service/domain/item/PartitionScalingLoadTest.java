@@ -0,0 +1,115 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PLUS : 파티션 노드 수 1 / 2 / 4 의 처리량 비교. | ./gradlew perfTest 로만 실행됨.
+ * 클라이언트는 노드를 나눠 맡아 /validation/v4/items 에 등록 / 상세 / 목록을 섞어 호출하며,
+ * 상세 조회의 절반은 다른 노드로 보내 노드 간 호출을 거치게 함.
+ *
+ * 등록은 노드마다 sync=always 파일 저장을 사용하므로 fsync 대기가 노드 수만큼 나뉨.
+ * 모든 노드가 한 JVM / 한 장비의 CPU 를 나눠 쓰므로 CPU 만 쓰는 작업의 확장성은 별도 프로세스 / 장비에서 측정해야 함.
+ */
+@Tag("perf")
+class PartitionScalingLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 40;
+    private static final Pattern ITEM_ID = Pattern.compile("items/(\\d+)");
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest(name = "nodes={0}")
+    @ValueSource(ints = {1, 2, 4})
+    void load(int nodes) throws Exception {
+        try (ItemPartitionCluster cluster = ItemPartitionCluster.start(nodes,
+                "item.persistence.enabled=true",
+                "item.persistence.dir=" + dir.resolve("nodes" + nodes + "-{node}"),
+                "item.persistence.sync=always")) {
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // JIT 예열
+            run(client, cluster, CLIENTS / 10);
+
+            long startNanos = System.nanoTime();
+            long[] latencies = run(client, cluster, CLIENTS);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            Arrays.sort(latencies);
+            System.out.printf("nodes=%d requests=%,d throughput=%,d req/s p50=%,d us p99=%,d us max=%,d us%n",
+                    nodes, latencies.length, latencies.length * 1_000_000_000L / elapsedNanos,
+                    latencies[latencies.length / 2] / 1_000,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000,
+                    latencies[latencies.length - 1] / 1_000);
+        }
+    }
+
+    // clients 개의 가상 스레드 클라이언트가 동시에 요청함. | 요청별 응답 시간 (ns)
+    private long[] run(HttpClient client, ItemPartitionCluster cluster, int clients) throws Exception {
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int clientId = c;
+                results.add(executor.submit(() -> client(client, cluster, clientId)));
+            }
+        }
+
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(results.get(c).get(), 0, latencies, c * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+        }
+        return latencies;
+    }
+
+    // 등록 -> 다른 노드에서 상세 -> 목록 -> 같은 노드에서 상세 순서로 반복함.
+    private long[] client(HttpClient client, ItemPartitionCluster cluster, int clientId) throws Exception {
+        String node = "http://localhost:" + cluster.port(clientId % cluster.size());
+        String otherNode = "http://localhost:" + cluster.port((clientId + 1) % cluster.size());
+
+        long[] latencies = new long[REQUESTS_PER_CLIENT];
+        String itemId = null;
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            HttpRequest request = switch (i % 4) {
+                case 0 -> HttpRequest.newBuilder(URI.create(node + "/validation/v4/items/add"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("itemName=load" + clientId + "&price=10000&quantity=10"))
+                        .build();
+                case 1 -> HttpRequest.newBuilder(URI.create(otherNode + "/validation/v4/items/" + itemId)).GET().build();
+                case 2 -> HttpRequest.newBuilder(URI.create(node + "/validation/v4/items")).GET().build();
+                default -> HttpRequest.newBuilder(URI.create(node + "/validation/v4/items/" + itemId)).GET().build();
+            };
+
+            long startNanos = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - startNanos;
+            assertThat(response.statusCode()).isIn(200, 302);
+
+            if (i % 4 == 0) {
+                Matcher matcher = ITEM_ID.matcher(response.headers().firstValue("Location").orElseThrow());
+                assertThat(matcher.find()).isTrue();
+                itemId = matcher.group(1);
+            }
+        }
+        return latencies;
+    }
+}
@@ -0,0 +1,185 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * localhost 의 노드 3 개에 나눠 저장하고, 어느 노드에서든 같은 결과를 조회하는지 확인함.
+ */
+class PartitionedItemRepositoryTest {
+
+    static final int NODES = 3;
+
+    static ItemPartitionCluster cluster;
+
+    @BeforeAll
+    static void startCluster() {
+        cluster = ItemPartitionCluster.start(NODES);
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        cluster.close();
+    }
+
+    @BeforeEach
+    void clear() {
+        cluster.repositories().forEach(ItemRepository::clearStore);
+    }
+
+    @Test
+    void findByIdFromAnyNode() {
+//      given
+        List<ItemValue> savedItems = new ArrayList<>();
+        for (int node = 0; node < NODES; node++) {
+            savedItems.add(cluster.repository(node).save(new Item("item" + node, 10_000, 10)));
+        }
+
+//      then | 저장한 노드와 관계없이 모든 노드에서 조회됨.
+        assertThat(savedItems).extracting(ItemValue::getId).doesNotHaveDuplicates();
+        for (ItemValue savedItem : savedItems) {
+            for (ItemRepository itemRepository : cluster.repositories()) {
+                assertThat(itemRepository.findById(savedItem.getId())).isEqualTo(savedItem);
+            }
+        }
+    }
+
+    @Test
+    void updateOnOwner() {
+//      given
+        ItemValue savedItem = cluster.repository(0).save(new Item("itemA", 10_000, 10));
+        Item updateParam = new Item("itemB", 20_000, 20);
+        updateParam.setVersion(savedItem.getVersion());
+
+//      when
+        boolean updated = cluster.repository(1).update(savedItem.getId(), updateParam);
+
+//      then | 다른 노드의 version 확인도 담당 노드에서 처리됨.
+        assertThat(updated).isTrue();
+        ItemValue findItem = cluster.repository(2).findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("itemB");
+        assertThat(findItem.getVersion()).isEqualTo(2L);
+        assertThat(cluster.repository(1).update(savedItem.getId(), updateParam)).isFalse();
+    }
+
+    @Test
+    void findPageGathersAllNodes() {
+//      given
+        List<Long> ids = new ArrayList<>();
+        for (int node = 0; node < NODES; node++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                items.add(new Item("item" + node + "-" + i, 10_000, 10));
+            }
+            cluster.repository(node).saveAll(items).forEach(item -> ids.add(item.getId()));
+        }
+        ids.sort(Comparator.naturalOrder());
+
+//      when
+        List<Long> pagedIds = new ArrayList<>();
+        Long cursor = null;
+        do {
+            ItemPage page = cluster.repository(1).findPage(cursor, 7);
+            page.getItems().forEach(item -> pagedIds.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+//      then
+        assertThat(pagedIds).isEqualTo(ids);
+        assertThat(cluster.repository(2).findAll()).extracting(ItemValue::getId).isEqualTo(ids);
+        assertThat(cluster.repository(0).count()).isEqualTo(ids.size());
+    }
+
+    @Test
+    void searchGathersAllNodes() {
+//      given
+        for (int node = 0; node < NODES; node++) {
+            cluster.repository(node).save(new Item("apple" + node, 10_000 + node, 10));
+            cluster.repository(node).save(new Item("banana" + node, 20_000 + node, 10));
+        }
+        ItemSearchCond cond = new ItemSearchCond();
+        cond.setNamePrefix("app");
+
+//      when
+        List<ItemValue> items = cluster.repository(2).search(cond, 100);
+
+//      then | 이름 인덱스 순서로 합쳐짐.
+        assertThat(items).extracting(ItemValue::getItemName).containsExactly("apple0", "apple1", "apple2");
+    }
+
+    @Test
+    void updateAllAcrossNodes() {
+//      given
+        List<Item> updateParams = new ArrayList<>();
+        for (int node = 0; node < NODES; node++) {
+            ItemValue savedItem = cluster.repository(node).save(new Item("item" + node, 10_000, 10));
+            Item updateParam = new Item("updated" + node, 20_000, 20);
+            updateParam.setId(savedItem.getId());
+            updateParams.add(updateParam);
+        }
+        Item missing = new Item("missing", 20_000, 20);
+        missing.setId(999_999_999L);
+        updateParams.add(1, missing);
+
+//      when
+        ItemUpdateResult result = cluster.repository(0).updateAll(updateParams, false);
+
+//      then | 결과 위치는 요청 순서와 같음.
+        assertThat(result.notFound()).containsExactly(1);
+        assertThat(result.items().get(1)).isNull();
+        for (int i : List.of(0, 2, 3)) {
+            assertThat(result.items().get(i).getItemName()).isEqualTo(updateParams.get(i).getItemName());
+            assertThat(cluster.repository(1).findById(updateParams.get(i).getId()).getVersion()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void internalApiRequiresSecret() throws Exception {
+//      given
+        ItemValue savedItem = cluster.repository(0).save(new Item("itemA", 10_000, 10));
+        String body = "{\"itemName\":\"itemB\",\"price\":20000,\"quantity\":20}";
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+//          when / then | secret 이 없거나 다르면 403, 수정되지 않음.
+            assertThat(put(client, 0, "/internal/items/" + savedItem.getId(), body, null)).isEqualTo(403);
+            assertThat(put(client, 0, "/internal/items/" + savedItem.getId(), body, "wrong")).isEqualTo(403);
+            assertThat(cluster.repository(0).findById(savedItem.getId()).getItemName()).isEqualTo("itemA");
+
+//          when / then | secret 이 같아도 이 노드가 맡지 않은 id, 경로와 다른 본문 id 는 400
+            int otherNode = NODES - 1;
+            while (cluster.repository(otherNode).isLocal(savedItem.getId())) {
+                otherNode--;
+            }
+            assertThat(put(client, otherNode, "/internal/items/" + savedItem.getId(), body, ItemPartitionCluster.SECRET)).isEqualTo(400);
+            String otherId = "{\"id\":" + (savedItem.getId() + 1) + ",\"itemName\":\"itemB\"}";
+            assertThat(put(client, 0, "/internal/items/" + savedItem.getId(), otherId, ItemPartitionCluster.SECRET)).isEqualTo(400);
+            assertThat(put(client, 0, "/internal/items?allOrNothing=false", "[{\"itemName\":\"itemB\"}]", ItemPartitionCluster.SECRET)).isEqualTo(400);
+
+//          when / then
+            assertThat(put(client, 0, "/internal/items/" + savedItem.getId(), body, ItemPartitionCluster.SECRET)).isEqualTo(200);
+            assertThat(cluster.repository(1).findById(savedItem.getId()).getItemName()).isEqualTo("itemB");
+        }
+    }
+
+    private static int put(HttpClient client, int node, String path, String body, String secret) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + cluster.port(node) + path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body));
+        if (secret != null) {
+            request.header(ItemPartitionProperties.SECRET_HEADER, secret);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
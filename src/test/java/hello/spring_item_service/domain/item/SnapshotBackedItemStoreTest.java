@@ -0,0 +1,51 @@
+package hello.spring_item_service.domain.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotBackedItemStoreTest {
+
+    static final int COUNT = 200_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sizeStableWhileHydrating() throws Exception {
+//      given
+        Path path = dir.resolve("snapshot-1.dat");
+        MappedItemSnapshot.write(path, LongStream.rangeClosed(1, COUNT).mapToObj(id ->
+                new ItemValue(id, "item" + id, 10_000, 10, 1L, 0L)));
+        MappedItemSnapshot snapshot = MappedItemSnapshot.open(path);
+        SnapshotBackedItemStore store = new SnapshotBackedItemStore(new HeapItemStore());
+        store.attach(snapshot);
+
+        AtomicBoolean hydrating = new AtomicBoolean(true);
+        AtomicLong wrongSize = new AtomicLong(-1);
+        Thread reader = new Thread(() -> {
+            while (hydrating.get()) {
+                long size = store.size();
+                if (size != COUNT) {
+                    wrongSize.set(size);
+                }
+            }
+        });
+        reader.start();
+
+//      when | 스냅샷 Item 을 모두 hot 으로 옮김.
+        snapshot.streamFrom(0L).forEach(store::hydrate);
+        hydrating.set(false);
+        reader.join();
+
+//      then | 옮기는 도중에도 Item 수는 바뀌지 않음.
+        assertThat(wrongSize.get()).isEqualTo(-1);
+        assertThat(store.size()).isEqualTo(COUNT);
+    }
+}
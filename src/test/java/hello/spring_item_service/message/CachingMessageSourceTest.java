@@ -0,0 +1,102 @@
+package hello.spring_item_service.message;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingMessageSourceTest {
+
+    ResourceBundleMessageSource messageSource = configure(new ResourceBundleMessageSource());
+    CachingMessageSource cachingMessageSource = configure(new CachingMessageSource(100));
+    MessageCodesResolver codesResolver = new CachingMessageCodesResolver(100);
+
+    @Test
+    void sameMessagesAsResourceBundleMessageSource() {
+//      given | 인자 없음 / {0} ~ {1} 숫자 인자 / 필드 이름 인자 / 번들에 없어 기본 메시지를 쓰는 오류
+        List<DefaultMessageSourceResolvable> resolvables = List.of(
+                new DefaultMessageSourceResolvable("label.item"),
+                new DefaultMessageSourceResolvable(new String[]{"hello.name"}, new Object[]{"spring"}),
+                fieldError("range", new Object[]{1_000, 1_000_000}, null),
+                fieldError("Range", new Object[]{field("price"), 1_000_000L, 1_000L}, "must be between 1000 and 1000000"),
+                fieldError("NotNull", new Object[]{field("price")}, "must not be null"),
+                new ObjectError("item", codesResolver.resolveMessageCodes("totalPriceMin", "item"), new Object[]{10_000, 5_000}, null));
+
+        for (Locale locale : List.of(Locale.KOREA, Locale.ENGLISH)) {
+            for (DefaultMessageSourceResolvable resolvable : resolvables) {
+//              when / then | 두 번째 조회는 기억해 둔 결과를 사용함.
+                String expected = messageSource.getMessage(resolvable, locale);
+                assertThat(cachingMessageSource.getMessage(resolvable, locale)).isEqualTo(expected);
+                assertThat(cachingMessageSource.getMessage(resolvable, locale)).isEqualTo(expected);
+            }
+        }
+        assertThat(cachingMessageSource.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
+        assertThat(cachingMessageSource.getMessage(fieldError("range", new Object[]{1_000, 1_000_000}, null), Locale.KOREA))
+                .isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+    }
+
+    @Test
+    void noSuchMessage() {
+        assertThatThrownBy(() -> cachingMessageSource.getMessage("no.such.code", new Object[]{1}, Locale.KOREA))
+                .isInstanceOf(NoSuchMessageException.class);
+        assertThat(cachingMessageSource.getMessage("no.such.code", new Object[]{1}, "기본 {0}", Locale.KOREA))
+                .isEqualTo("기본 1");
+    }
+
+    @Test
+    void templateFormatsLikeMessageFormat() {
+        Object[] args = {1_234_567, "text", null, new Date(0L)};
+        List<String> patterns = List.of("{0} ~ {1}", "'{0}' {0}", "it''s {1}", "{2} {3} {9}", "'quoted '' {1}'", "a } b",
+                "{0,number,#}", "{0,choice,0#none|1#one}", "plain");
+
+        for (String pattern : patterns) {
+            for (Locale locale : List.of(Locale.KOREA, Locale.GERMANY)) {
+                MessageTemplate template = MessageTemplate.compile(pattern, locale, () -> new MessageFormat(pattern, locale));
+                assertThat(template.format(args)).as(pattern).isEqualTo(new MessageFormat(pattern, locale).format(args));
+            }
+        }
+    }
+
+    @Test
+    void codesResolver() {
+//      given
+        MessageCodesResolver defaultResolver = new DefaultMessageCodesResolver();
+
+//      when
+        String[] codes = codesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        codes[0] = "changed";
+
+//      then | 반환한 배열을 바꿔도 기억해 둔 코드는 바뀌지 않음.
+        assertThat(codesResolver.resolveMessageCodes("required", "item", "itemName", String.class))
+                .containsExactly(defaultResolver.resolveMessageCodes("required", "item", "itemName", String.class));
+        assertThat(codesResolver.resolveMessageCodes("required", "item"))
+                .containsExactly(defaultResolver.resolveMessageCodes("required", "item"));
+    }
+
+    private FieldError fieldError(String code, Object[] args, String defaultMessage) {
+        return new FieldError("item", "price", 0, false,
+                codesResolver.resolveMessageCodes(code, "item", "price", Integer.class), args, defaultMessage);
+    }
+
+    private static DefaultMessageSourceResolvable field(String field) {
+        return new DefaultMessageSourceResolvable(new String[]{"item." + field, field}, field);
+    }
+
+    private static <T extends ResourceBundleMessageSource> T configure(T messageSource) {
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
@@ -0,0 +1,50 @@
+package hello.spring_item_service.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void prometheus() throws Exception {
+//      given | 목록 화면, 검증 실패 등록
+        mockMvc.perform(get("/validation/v4/items")).andExpect(status().isOk());
+        mockMvc.perform(post("/validation/v4/items/add")
+                        .param("itemName", "")
+                        .param("price", "abc")
+                        .param("quantity", "1"))
+                .andExpect(status().isOk());
+
+//      when
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+//      then
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/validation/v4/items/add\"")
+                .contains("item_repository_seconds_bucket{")
+                .contains("operation=\"findPage\"")
+                .contains("item_validation_seconds_count{form=\"ItemSaveForm\"")
+                .contains("item_validation_errors_total{code=\"NotBlank\"")
+                .contains("item_validation_errors_total{code=\"typeMismatch\"")
+                .contains("item_view_render_seconds_count{")
+                .contains("view=\"validation/v4/addForm\"");
+    }
+}
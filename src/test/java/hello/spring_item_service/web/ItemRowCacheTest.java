@@ -0,0 +1,47 @@
+package hello.spring_item_service.web;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemRowCacheTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void rowsAfterEdit() throws Exception {
+//      given
+        ItemValue item = itemRepository.save(new Item("rowCacheA", 10_000, 10));
+        String link = "/validation/v4/items/" + item.getId();
+        mockMvc.perform(get("/validation/v4/items").param("cursor", String.valueOf(item.getId() - 1)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(link)))
+                .andExpect(content().string(containsString("rowCacheA")));
+
+//      when | 수정된 상품은 다시 렌더링됨
+        itemRepository.update(item.getId(), new Item("rowCacheB", 20_000, 20));
+
+//      then
+        mockMvc.perform(get("/validation/v4/items").param("cursor", String.valueOf(item.getId() - 1)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("rowCacheB")))
+                .andExpect(content().string(not(containsString("rowCacheA"))));
+    }
+}
@@ -0,0 +1,119 @@
+package hello.spring_item_service.web.api;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void importAndExport() throws Exception {
+//      given
+        itemRepository.clearStore();
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= ItemApiController.IMPORT_BATCH_SIZE + 1; i++) {
+            body.append("{\"itemName\":\"item").append(i).append("\",\"price\":10000,\"quantity\":1}\n");
+        }
+        body.append("{\"itemName\":\"\",\"price\":10000,\"quantity\":1}\n");
+        body.append("{\"itemName\":\"cheap\",\"price\":1000,\"quantity\":1}\n");
+        body.append("{\"itemName\":\"broken\",\"price\":\"abc\"}\n");
+
+//      when
+        mockMvc.perform(post("/api/items/import").contentType(MediaType.APPLICATION_NDJSON).content(body.toString()))
+//      then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines").value(1_004))
+                .andExpect(jsonPath("$.imported").value(1_001))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.rejectedLines[0].line").value(1_004))
+                .andExpect(jsonPath("$.rejectedLines[0].errors[0].code").value("typeMismatch"))
+                .andExpect(jsonPath("$.rejectedLines[0].errors[0].field").value("price"))
+                .andExpect(jsonPath("$.rejectedLines[0].errors[0].message").value("숫자를 입력해주세요."))
+                .andExpect(jsonPath("$.rejectedLines[1].line").value(1_002))
+                .andExpect(jsonPath("$.rejectedLines[1].errors[0].code").value("NotBlank"))
+                .andExpect(jsonPath("$.rejectedLines[2].errors[0].code").value("totalPriceMin"));
+
+        MvcResult export = mockMvc.perform(get("/api/items/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String lines = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(itemRepository.count()).isEqualTo(1_001);
+        assertThat(lines.lines()).hasSize(1_001);
+        ItemValue first = itemRepository.stream().findFirst().orElseThrow();
+        assertThat(lines.lines().findFirst().orElseThrow())
+                .isEqualTo("{\"id\":" + first.getId() + ",\"itemName\":\"item1\",\"price\":10000,\"quantity\":1"
+                        + ",\"version\":1,\"lastModified\":" + first.getLastModified() + "}");
+    }
+
+    @Test
+    void importWithProgress() throws Exception {
+//      given | 묶음 2개 (1,000 줄 + 나머지 2줄)
+        itemRepository.clearStore();
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= ItemApiController.IMPORT_BATCH_SIZE + 1; i++) {
+            body.append("{\"itemName\":\"item").append(i).append("\",\"price\":10000,\"quantity\":1}\n");
+        }
+        body.append("{\"itemName\":\"broken\",\"price\":\"abc\"}\n");
+
+//      when
+        String response = mockMvc.perform(post("/api/items/import?progress")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+//      then | 묶음마다 진행 줄, 마지막 줄은 결과
+        assertThat(response.lines()).containsExactly(
+                "{\"lines\":1000,\"imported\":1000,\"rejected\":0}",
+                response.lines().toList().get(1));
+        assertThat(response.lines().toList().get(1))
+                .startsWith("{\"lines\":1002,\"imported\":1001,\"rejected\":1,\"rejectedLines\":[{\"line\":1002,\"errors\":[{\"code\":\"typeMismatch\"");
+        assertThat(itemRepository.count()).isEqualTo(1_001);
+    }
+
+    @Test
+    void stats() throws Exception {
+//      given
+        itemRepository.clearStore();
+        itemRepository.save(new Item("itemA", 1_000_000, 9_999));
+        itemRepository.save(new Item("itemB", 20_000, 10));
+
+//      when / then
+        mockMvc.perform(get("/api/items/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.totalQuantity").value(10_009))
+                .andExpect(jsonPath("$.totalValue").value(9_999_200_000L))
+                .andExpect(jsonPath("$.priceHistogram[1].count").value(1))
+                .andExpect(jsonPath("$.priceHistogram[4].count").value(1));
+    }
+}
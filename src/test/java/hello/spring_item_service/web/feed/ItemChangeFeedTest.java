@@ -0,0 +1,151 @@
+package hello.spring_item_service.web.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 실제 포트로 /api/items/changes 를 구독해 등록 / 수정 / 이어받기 / reset 을 확인함.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"item.feed.enabled=true", "item.feed.log-size=5", "item.feed.heartbeat=200ms"})
+class ItemChangeFeedTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void createdAndUpdated() throws Exception {
+        try (BufferedReader feed = subscribe(null)) {
+//          when
+            ItemValue savedItem = itemRepository.save(new Item("itemA", 10_000, 10));
+            Item updateParam = new Item("itemB", 20_000, 20);
+            updateParam.setVersion(savedItem.getVersion());
+            itemRepository.update(savedItem.getId(), updateParam);
+
+//          then | 수정 후 값을 받을 때까지 읽음. | 등록과 수정이 한 묶음이면 created 하나로 합쳐짐.
+            Event event = read(feed, 1).getFirst();
+            while (event.data().path("after").path("version").asLong() < 2) {
+                assertThat(event.name()).isEqualTo("created");
+                assertThat(event.data().path("before").isNull()).isTrue();
+                event = read(feed, 1).getFirst();
+            }
+            assertThat(event.data().path("after").path("itemName").asText()).isEqualTo("itemB");
+            assertThat(event.id()).isEqualTo(itemRepository.epoch() + "." + itemRepository.lastChangeEventSequence());
+            if (event.name().equals("updated")) {
+                assertThat(event.data().path("before").path("itemName").asText()).isEqualTo("itemA");
+            }
+        }
+    }
+
+    @Test
+    void resumeFromLastEventId() throws Exception {
+//      given
+        long epoch = itemRepository.epoch();
+        long after = itemRepository.lastChangeEventSequence();
+        ItemValue first = itemRepository.save(new Item("itemA", 10_000, 10));
+        ItemValue second = itemRepository.save(new Item("itemB", 10_000, 10));
+
+//      when | 첫 번째 변경까지 받은 것으로 다시 연결
+        try (BufferedReader feed = subscribe(epoch + "." + (after + 1))) {
+            List<Event> events = read(feed, 1);
+
+//          then
+            assertThat(events.getFirst().name()).isEqualTo("created");
+            assertThat(events.getFirst().data().path("after").path("id").asLong()).isEqualTo(second.getId());
+            assertThat(events.getFirst().data().path("after").path("id").asLong()).isNotEqualTo(first.getId());
+        }
+    }
+
+    @Test
+    void resetWhenTooFarBehind() throws Exception {
+//      given | 로그 크기 5 보다 많이 변경
+        long epoch = itemRepository.epoch();
+        long after = itemRepository.lastChangeEventSequence();
+        for (int i = 0; i < 10; i++) {
+            itemRepository.save(new Item("item" + i, 10_000, 10));
+        }
+
+//      when
+        try (BufferedReader feed = subscribe(epoch + "." + after)) {
+            Event event = read(feed, 1).getFirst();
+
+//          then | 현재 위치로 건너뜀.
+            assertThat(event.name()).isEqualTo("reset");
+            assertThat(event.id()).isEqualTo(epoch + "." + itemRepository.lastChangeEventSequence());
+        }
+    }
+
+    private BufferedReader subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/items/changes"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+    }
+
+    // comment (heartbeat) 는 건너뛰고 이벤트를 count 개 읽음.
+    private List<Event> read(BufferedReader feed, int count) {
+        return assertTimeoutPreemptively(TIMEOUT, () -> {
+            List<Event> events = new ArrayList<>();
+            String name = null;
+            String id = null;
+            StringBuilder data = new StringBuilder();
+            String line;
+            while (events.size() < count && (line = feed.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (name != null) {
+                        events.add(new Event(name, id, objectMapper.readTree(data.toString())));
+                    }
+                    name = null;
+                    id = null;
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("id:")) {
+                    id = line.substring("id:".length());
+                } else if (line.startsWith("data:")) {
+                    data.append(line.substring("data:".length()));
+                }
+            }
+            return events;
+        });
+    }
+
+    record Event(String name, String id, JsonNode data) {
+    }
+}
@@ -0,0 +1,41 @@
+package hello.spring_item_service.web.log;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRateLimiterTest {
+
+    @Test
+    void limitPerSecond() {
+//      given
+        EventRateLimiter limiter = new EventRateLimiter(3);
+
+//      when
+        int acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryAcquire()) {
+                acquired++;
+            }
+        }
+
+//      then | 같은 1 초 구간에서는 3 건만 허용하고, 버린 건수는 한 번만 꺼낼 수 있음.
+        assertThat(acquired).isEqualTo(3);
+        assertThat(limiter.drainSuppressed()).isEqualTo(7);
+        assertThat(limiter.drainSuppressed()).isZero();
+    }
+
+    @Test
+    void nextWindow() throws InterruptedException {
+//      given
+        EventRateLimiter limiter = new EventRateLimiter(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+//      when
+        Thread.sleep(1_100);
+
+//      then
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,124 @@
+package hello.spring_item_service.web.reactive;
+
+import hello.spring_item_service.SpringItemServiceApplication;
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PLUS : 동시 연결 10,000 개에서 MVC (Tomcat) 와 non-blocking (Reactor Netty) 상품 API 비교. | ./gradlew perfTest 로만 실행됨.
+ * 클라이언트마다 가상 스레드 하나로 상품명 접두어 검색을 반복하며, 동시에 보내는 요청 수만큼 연결이 열림.
+ * 서버 스레드 수는 이 JVM 의 플랫폼 스레드 최대 수로 비교함. | 클라이언트는 가상 스레드만 사용함.
+ * 열린 파일 수 제한 (ulimit -n) 이 연결 수 * 2 보다 커야 함.
+ */
+@Tag("perf")
+class ConnectionScalabilityLoadTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int ITEMS = 10_000;
+
+    @ParameterizedTest(name = "reactive={0}")
+    @ValueSource(booleans = {false, true})
+    void load(boolean reactive) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                // properties() 는 기본값이라 application.properties 에 덮이므로 명령행 인자로 전달함.
+                .run("--server.port=0", "--item.reactive.enabled=true", "--item.reactive.port=0")) {
+            List<Item> items = new ArrayList<>(ITEMS);
+            for (int i = 0; i < ITEMS; i++) {
+                items.add(new Item("item" + i, 10_000, 10));
+            }
+            context.getBean(ItemRepository.class).saveAll(items);
+
+            String baseUrl = reactive
+                    ? "http://localhost:" + context.getBean(ReactiveItemServer.class).port() + "/reactive/items"
+                    : "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/validation/api/items";
+            URI search = URI.create(baseUrl + "/search?namePrefix=item99");
+
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient client = HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .executor(clientExecutor)
+                         .connectTimeout(Duration.ofSeconds(30))
+                         .build()) {
+                // JIT 예열
+                run(client, search, CLIENTS / 10);
+
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                threads.resetPeakThreadCount();
+                AtomicInteger failures = new AtomicInteger();
+                long startNanos = System.nanoTime();
+                long[] latencies = run(client, search, CLIENTS, failures);
+                long elapsedNanos = System.nanoTime() - startNanos;
+
+                Arrays.sort(latencies);
+                System.out.printf("reactive=%s clients=%,d requests=%,d failures=%,d throughput=%,d req/s "
+                                + "p50=%,d us p99=%,d us max=%,d us peakPlatformThreads=%,d%n",
+                        reactive, CLIENTS, latencies.length, failures.get(),
+                        latencies.length * 1_000_000_000L / elapsedNanos,
+                        latencies[latencies.length / 2] / 1_000,
+                        latencies[(int) (latencies.length * 0.99)] / 1_000,
+                        latencies[latencies.length - 1] / 1_000,
+                        threads.getPeakThreadCount());
+            }
+        }
+    }
+
+    private long[] run(HttpClient client, URI search, int clients) throws Exception {
+        return run(client, search, clients, new AtomicInteger());
+    }
+
+    // clients 개의 가상 스레드 클라이언트가 동시에 요청함. | 성공한 요청별 응답 시간 (ns)
+    private long[] run(HttpClient client, URI search, int clients, AtomicInteger failures) throws Exception {
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                results.add(executor.submit(() -> client(client, search, failures)));
+            }
+        }
+        return results.stream()
+                .flatMapToLong(result -> Arrays.stream(result.resultNow()))
+                .toArray();
+    }
+
+    private long[] client(HttpClient client, URI search, AtomicInteger failures) throws InterruptedException {
+        long[] latencies = new long[REQUESTS_PER_CLIENT];
+        int succeeded = 0;
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(search).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    latencies[succeeded++] = System.nanoTime() - startNanos;
+                    continue;
+                }
+            } catch (IOException e) {
+                // 연결 거부 / 초기화 / 시간 초과 | 서버가 받아주지 못한 연결
+            }
+            failures.incrementAndGet();
+        }
+        return Arrays.copyOf(latencies, succeeded);
+    }
+}
@@ -0,0 +1,198 @@
+package hello.spring_item_service.web.reactive;
+
+import hello.spring_item_service.SpringItemServiceApplication;
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ClientHttpConnectorAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"item.reactive.enabled=true", "item.reactive.port=0"})
+class ReactiveItemHandlerTest {
+
+    @Autowired
+    ReactiveItemServer server;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    WebTestClient client;
+
+    @BeforeEach
+    void beforeEach() {
+        itemRepository.clearStore();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.port()).build();
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void addAndFind() {
+//      when | ItemValue 는 기본 생성자가 없으므로 같은 JSON 필드의 Item 으로 받음.
+        Item savedItem = client.post().uri("/reactive/items/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Item.class).returnResult().getResponseBody();
+
+//      then
+        assertThat(savedItem.getItemName()).isEqualTo("itemA");
+        assertThat(itemRepository.findById(savedItem.getId()).getItemName()).isEqualTo("itemA");
+        client.get().uri("/reactive/items/{itemId}", savedItem.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.itemName").isEqualTo("itemA");
+        client.get().uri("/reactive/items/{itemId}", savedItem.getId() + 1)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void addItemErrors() {
+//      then | MVC API 와 같은 코드 / 메시지
+        client.post().uri("/reactive/items/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Accept-Language", Locale.KOREA.toLanguageTag())
+                .bodyValue("{\"itemName\":\" \",\"price\":100,\"quantity\":1}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].code").isEqualTo("NotBlank")
+                .jsonPath("$[0].field").isEqualTo("itemName")
+                .jsonPath("$[1].message").isEqualTo("price는 1,000 ~ 1,000,000 을 허용합니다.")
+                .jsonPath("$[2].code").isEqualTo("totalPriceMin");
+
+        client.post().uri("/reactive/items/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":1}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].code").isEqualTo("typeMismatch")
+                .jsonPath("$[0].field").isEqualTo("price");
+        assertThat(itemRepository.count()).isZero();
+    }
+
+    @Test
+    void editVersionConflict() {
+//      given
+        ItemValue savedItem = itemRepository.save(new Item("itemA", 10_000, 10));
+        String body = "{\"id\":" + savedItem.getId() + ",\"itemName\":\"itemB\",\"price\":20000,\"quantity\":20,\"version\":"
+                + savedItem.getVersion() + "}";
+
+//      when | 같은 version 으로 두 번 수정
+        client.post().uri("/reactive/items/{itemId}/edit", savedItem.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.version").isEqualTo(2);
+
+//      then
+        client.post().uri("/reactive/items/{itemId}/edit", savedItem.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$[0].code").isEqualTo("versionConflict");
+        client.post().uri("/reactive/items/{itemId}/edit", savedItem.getId() + 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void followerRejectsWrites() {
+//      given | leader 에 연결되지 않은 follower
+//      ReactorResourceFactory 는 닫힐 때 전역 Netty 자원을 정리해 이 테스트 서버도 멈추므로 follower 에서는 WebClient 설정을 제외함.
+        try (ConfigurableApplicationContext follower = new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                .run("--server.port=0", "--item.reactive.enabled=true", "--item.reactive.port=0",
+                        "--item.replication.role=follower", "--item.replication.leader=http://localhost:1",
+                        "--item.replication.retry-delay=1s", "--item.replication.secret=test",
+                        "--spring.autoconfigure.exclude=" + ClientHttpConnectorAutoConfiguration.class.getName()
+                                + "," + WebClientAutoConfiguration.class.getName())) {
+            WebTestClient followerClient = WebTestClient.bindToServer()
+                    .baseUrl("http://localhost:" + follower.getBean(ReactiveItemServer.class).port()).build();
+
+//          when / then | 쓰기는 500 대신 503, 조회는 그대로 처리함.
+            followerClient.post().uri("/reactive/items/add")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}")
+                    .exchange()
+                    .expectStatus().isEqualTo(503);
+            followerClient.post().uri("/reactive/items/1/edit")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"id\":1,\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}")
+                    .exchange()
+                    .expectStatus().isEqualTo(503);
+            followerClient.get().uri("/reactive/items/1")
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+    }
+
+    @Test
+    void streamItems() {
+//      given
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            items.add(new Item("item" + i, 10_000, 10));
+        }
+        itemRepository.saveAll(items);
+
+//      when
+        List<Item> streamed = client.get().uri("/reactive/items")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Item.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+//      then | id 순서
+        assertThat(streamed).hasSize(1_000);
+        assertThat(streamed).isSortedAccordingTo((a, b) -> Long.compare(a.getId(), b.getId()));
+    }
+
+    @Test
+    void batchAdd() {
+//      when
+        client.post().uri("/reactive/items/batch/add?atomic=false")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10},{\"itemName\":\"\",\"price\":10000,\"quantity\":10}]")
+                .exchange()
+//      then | 통과한 상품만 저장
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.requested").isEqualTo(2)
+                .jsonPath("$.items['0'].itemName").isEqualTo("itemA")
+                .jsonPath("$.items['1']").doesNotExist()
+                .jsonPath("$.errors['1'][0].code").isEqualTo("NotBlank")
+                .jsonPath("$.errors['1'][0].field").isEqualTo("itemName")
+                .jsonPath("$.errors['1'][0].codes").doesNotExist();
+        assertThat(itemRepository.count()).isEqualTo(1);
+    }
+}
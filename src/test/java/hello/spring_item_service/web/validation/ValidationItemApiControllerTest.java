@@ -0,0 +1,115 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationItemApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void addItemErrors() throws Exception {
+//      given
+        String body = "{\"itemName\":\" \",\"price\":100,\"quantity\":1}";
+
+//      when
+        mockMvc.perform(post("/validation/api/items/add").locale(Locale.KOREA)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+//      then | 코드 / 필드 / 메시지만 응답함.
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].code").value("NotBlank"))
+                .andExpect(jsonPath("$[0].field").value("itemName"))
+                .andExpect(jsonPath("$[1].code").value("Range"))
+                .andExpect(jsonPath("$[1].message").value("price는 1,000 ~ 1,000,000 을 허용합니다."))
+                .andExpect(jsonPath("$[2].code").value("totalPriceMin"))
+                .andExpect(jsonPath("$[2].field").doesNotExist())
+                .andExpect(jsonPath("$[0].codes").doesNotExist())
+                .andExpect(jsonPath("$[0].arguments").doesNotExist());
+    }
+
+    @Test
+    void addItemTypeMismatch() throws Exception {
+//      given
+        String body = "{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":1}";
+
+//      when
+        mockMvc.perform(post("/validation/api/items/add").locale(Locale.KOREA)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+//      then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].code").value("typeMismatch"))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].message").value("숫자를 입력해주세요."));
+
+        mockMvc.perform(post("/validation/api/items/add").contentType(MediaType.APPLICATION_JSON).content("{"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("typeMismatch"));
+    }
+
+    @Test
+    void batchAddKeyedByPosition() throws Exception {
+//      given | 가운데 상품만 오류
+        String body = "[{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10},"
+                + "{\"itemName\":\" \",\"price\":10000,\"quantity\":10},"
+                + "{\"itemName\":\"itemC\",\"price\":10000,\"quantity\":10}]";
+
+//      when
+        mockMvc.perform(post("/validation/api/items/batch/add").locale(Locale.KOREA)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+//      then | 저장 결과와 오류 모두 요청 위치를 키로 응답하고, 오류는 ItemApiError 형식
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.items['0'].itemName").value("itemA"))
+                .andExpect(jsonPath("$.items['1']").doesNotExist())
+                .andExpect(jsonPath("$.items['2'].itemName").value("itemC"))
+                .andExpect(jsonPath("$.errors['1']", hasSize(1)))
+                .andExpect(jsonPath("$.errors['1'][0].code").value("NotBlank"))
+                .andExpect(jsonPath("$.errors['1'][0].field").value("itemName"))
+                .andExpect(jsonPath("$.errors['1'][0].message").exists())
+                .andExpect(jsonPath("$.errors['1'][0].codes").doesNotExist())
+                .andExpect(jsonPath("$.errors['1'][0].rejectedValue").doesNotExist());
+    }
+
+    @Test
+    void batchEditKeyedByPosition() throws Exception {
+//      given
+        ItemValue itemA = itemRepository.save(new Item("itemA", 10_000, 10));
+        ItemValue itemB = itemRepository.save(new Item("itemB", 10_000, 10));
+        String body = "[{\"id\":" + (itemB.getId() + 1_000) + ",\"itemName\":\"missing\",\"price\":10000,\"quantity\":10},"
+                + "{\"id\":" + itemA.getId() + ",\"itemName\":\"updatedA\",\"price\":10000,\"quantity\":10},"
+                + "{\"id\":" + itemB.getId() + ",\"version\":99,\"itemName\":\"stale\",\"price\":10000,\"quantity\":10}]";
+
+//      when
+        mockMvc.perform(post("/validation/api/items/batch/edit").locale(Locale.KOREA)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+//      then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items['0']").doesNotExist())
+                .andExpect(jsonPath("$.items['1'].itemName").value("updatedA"))
+                .andExpect(jsonPath("$.errors['0'][0].code").value("notFound"))
+                .andExpect(jsonPath("$.errors['0'][0].message").value(startsWith("상품을 찾을 수 없습니다.")))
+                .andExpect(jsonPath("$.errors['2'][0].code").value("versionConflict"));
+    }
+}
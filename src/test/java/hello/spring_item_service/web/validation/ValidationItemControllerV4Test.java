@@ -0,0 +1,68 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.domain.item.Item;
+import hello.spring_item_service.domain.item.ItemRepository;
+import hello.spring_item_service.domain.item.ItemValue;
+import hello.spring_item_service.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationItemControllerV4Test {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void editAfterVersionConflict() throws Exception {
+//      given | 수정 화면을 연 뒤 (version 1) 다른 수정이 먼저 반영됨.
+        ItemValue item = itemRepository.save(new Item("itemA", 10_000, 10));
+        itemRepository.update(item.getId(), new Item("itemB", 20_000, 20));
+        String url = "/validation/v4/items/" + item.getId() + "/edit";
+
+//      when | 열었던 version 으로 저장
+        ItemUpdateForm form = (ItemUpdateForm) mockMvc.perform(post(url)
+                        .param("id", String.valueOf(item.getId()))
+                        .param("itemName", "itemC")
+                        .param("price", "30000")
+                        .param("quantity", "30")
+                        .param("version", String.valueOf(item.getVersion())))
+//      then | 수정하지 않고 지금 저장된 값과 version 으로 다시 수정 화면
+                .andExpect(status().isOk())
+                .andExpect(view().name("validation/v4/editForm"))
+                .andExpect(model().attributeHasErrors("item"))
+                .andReturn().getModelAndView().getModel().get("item");
+        ItemValue current = itemRepository.findById(item.getId());
+        assertThat(form.getItemName()).isEqualTo("itemB");
+        assertThat(form.getPrice()).isEqualTo(20_000);
+        assertThat(form.getVersion()).isEqualTo(current.getVersion());
+
+//      when | 화면에 다시 그려진 version 으로 다시 저장
+        mockMvc.perform(post(url)
+                        .param("id", String.valueOf(item.getId()))
+                        .param("itemName", "itemC")
+                        .param("price", "30000")
+                        .param("quantity", "30")
+                        .param("version", String.valueOf(form.getVersion())))
+//      then
+                .andExpect(status().is3xxRedirection());
+        assertThat(itemRepository.findById(item.getId()).getItemName()).isEqualTo("itemC");
+    }
+}
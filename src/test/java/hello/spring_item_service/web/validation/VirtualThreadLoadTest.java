@@ -0,0 +1,108 @@
+package hello.spring_item_service.web.validation;
+
+import hello.spring_item_service.SpringItemServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PLUS : 플랫폼 스레드 vs 가상 스레드 요청 처리 부하 테스트. | ./gradlew perfTest 로만 실행됨.
+ * /validation/v4/items 목록 조회와 등록을 섞어서 호출하며,
+ * 등록은 sync=always 파일 저장을 사용해 fsync 대기(블로킹)가 있는 상황을 만듦.
+ */
+@Tag("perf")
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    // 요청 5번 중 1번은 등록
+    private static final int WRITE_EVERY = 5;
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest(name = "virtual={0}")
+    @ValueSource(booleans = {false, true})
+    void load(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringItemServiceApplication.class)
+                // properties() 는 기본값이라 application.properties 에 덮이므로 명령행 인자로 전달함.
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--item.persistence.enabled=true",
+                        "--item.persistence.dir=" + dir.resolve(virtual ? "virtual" : "platform"),
+                        "--item.persistence.sync=always")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // JIT 예열
+            run(client, port, CLIENTS / 10);
+
+            long startNanos = System.nanoTime();
+            long[] latencies = run(client, port, CLIENTS);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            Arrays.sort(latencies);
+            System.out.printf("virtual=%s requests=%,d throughput=%,d req/s p50=%,d us p99=%,d us max=%,d us%n",
+                    virtual, latencies.length, latencies.length * 1_000_000_000L / elapsedNanos,
+                    latencies[latencies.length / 2] / 1_000,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000,
+                    latencies[latencies.length - 1] / 1_000);
+        }
+    }
+
+    // clients 개의 가상 스레드 클라이언트가 동시에 요청함. | 요청별 응답 시간 (ns)
+    private long[] run(HttpClient client, int port, int clients) throws Exception {
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int clientId = c;
+                results.add(executor.submit(() -> client(client, port, clientId)));
+            }
+        }
+
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(results.get(c).get(), 0, latencies, c * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+        }
+        return latencies;
+    }
+
+    private long[] client(HttpClient client, int port, int clientId) throws Exception {
+        URI items = URI.create("http://localhost:" + port + "/validation/v4/items");
+        URI add = URI.create("http://localhost:" + port + "/validation/v4/items/add");
+
+        long[] latencies = new long[REQUESTS_PER_CLIENT];
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            HttpRequest request = i % WRITE_EVERY == 0
+                    ? HttpRequest.newBuilder(add)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("itemName=load" + clientId + "&price=10000&quantity=10"))
+                        .build()
+                    : HttpRequest.newBuilder(items).GET().build();
+
+            long startNanos = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - startNanos;
+            assertThat(response.statusCode()).isIn(200, 302);
+        }
+        return latencies;
+    }
+}
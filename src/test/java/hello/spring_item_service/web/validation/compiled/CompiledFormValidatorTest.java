@@ -0,0 +1,143 @@
+package hello.spring_item_service.web.validation.compiled;
+
+import hello.spring_item_service.web.validation.form.ItemSaveForm;
+import hello.spring_item_service.web.validation.form.ItemUpdateForm;
+import hello.spring_item_service.web.validation.form.TotalPriceMin;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledFormValidatorTest {
+
+    ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    CompiledFormValidator compiledFormValidator = new CompiledFormValidator(validatorFactory);
+    SpringValidatorAdapter beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+
+    @AfterEach
+    void afterEach() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void sameFieldErrorsAsBeanValidation() {
+//      given | 통과, 필드마다 실패, null
+        List<ItemSaveForm> forms = List.of(
+                saveForm("itemA", 10_000, 10),
+                saveForm(" ", 100, 10_000),
+                saveForm("itemA", 2_000_000, 9_999),
+                saveForm(null, null, null));
+
+        for (ItemSaveForm form : forms) {
+//          when
+            BindingResult compiled = new BeanPropertyBindingResult(form, "item");
+            compiledFormValidator.validate(form, compiled);
+            BindingResult expected = new BeanPropertyBindingResult(form, "item");
+            beanValidator.validate(form, expected);
+
+//          then | 코드, 인자, 거부된 값, 기본 메시지가 모두 같아야 함.
+            assertThat(compiled.getFieldErrors()).extracting(CompiledFormValidatorTest::describe)
+                    .containsExactlyInAnyOrderElementsOf(expected.getFieldErrors().stream().map(CompiledFormValidatorTest::describe).toList());
+        }
+    }
+
+    @Test
+    void totalPriceMin() {
+//      given
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setId(1L);
+        form.setItemName("itemA");
+        form.setPrice(1_000);
+        form.setQuantity(9);
+
+//      when
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        compiledFormValidator.validate(form, bindingResult);
+
+//      then | 수량 제약 조건이 없는 ItemUpdateForm 에도 @TotalPriceMin 이 적용됨.
+        assertThat(bindingResult.getFieldErrorCount()).isZero();
+        ObjectError error = bindingResult.getGlobalError();
+        assertThat(error.getCodes()).containsExactly("totalPriceMin.item", "totalPriceMin");
+        assertThat(error.getArguments()).containsExactly(10_000, 9_000L);
+    }
+
+    @Test
+    void totalPriceMinDoesNotOverflow() {
+//      given | 가격 * 수량 (2,148,000,000) 이 int 최댓값을 넘음. | int 로 계산하면 음수가 되어 totalPriceMin 오류
+        ItemSaveForm form = saveForm("itemA", 1_000_000, 2_148);
+
+//      when
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        compiledFormValidator.validate(form, bindingResult);
+
+//      then
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void failFast() {
+//      given | 세 필드 모두 실패
+        ItemSaveForm form = saveForm(" ", 100, 10_000);
+
+//      when
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        compiledFormValidator.failFast().validate(form, bindingResult);
+
+//      then | 선언 순서상 첫 번째 오류만 기록됨.
+        assertThat(bindingResult.getAllErrors()).hasSize(1);
+        assertThat(bindingResult.getFieldError().getField()).isEqualTo("itemName");
+        assertThat(bindingResult.getFieldError().getCode()).isEqualTo("NotBlank");
+    }
+
+    @Test
+    void rejectUnsupportedConstraint() {
+        assertThatThrownBy(() -> new CompiledFormValidator(validatorFactory, EmailForm.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("email");
+    }
+
+    private static ItemSaveForm saveForm(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+
+    private static List<Object> describe(FieldError error) {
+        return List.of(error.getField(), Arrays.asList(error.getCodes()), Arrays.asList(error.getArguments()),
+                String.valueOf(error.getRejectedValue()), error.getDefaultMessage());
+    }
+
+    @TotalPriceMin
+    public static class EmailForm {
+        @Email
+        private String email;
+        private Integer price;
+        private Integer quantity;
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}